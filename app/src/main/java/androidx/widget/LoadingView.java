@@ -9,20 +9,34 @@ import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Build;
 import android.util.AttributeSet;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.view.animation.LinearInterpolator;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.core.view.ViewCompat;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * 数据加载
  */
-public class LoadingView extends View implements ValueAnimator.AnimatorUpdateListener {
+public class LoadingView extends View implements ValueAnimator.AnimatorUpdateListener, ViewTreeObserver.OnPreDrawListener {
+
+    /**
+     * 绘制模式：每帧重新绘制线段透明度
+     */
+    public static final int MODE_REDRAW = 0;
+    /**
+     * 绘制模式：只绘制一次，每帧旋转View（RenderThread属性），不重新绘制
+     */
+    public static final int MODE_ROTATION = 1;
 
     /**
      * 线条画笔
@@ -75,7 +89,19 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
     /**
      * 透明度值
      */
-    private List<Integer> alphas;
+    private int[] alphas;
+    /**
+     * 线段端点（x0,y0,x1,y1），尺寸或角度改变时重新计算
+     */
+    private float[] lines = new float[0];
+    /**
+     * 线段个数
+     */
+    private int lineCount;
+    /**
+     * 线段端点是否需要重新计算
+     */
+    private boolean linesDirty = true;
     /**
      * 动画值
      */
@@ -84,6 +110,26 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      * 是否开始
      */
     private boolean loading;
+    /**
+     * 暂停取消时的播放时间，重新开始时恢复，-1表示没有
+     */
+    private long suspendPlayTime = -1;
+    /**
+     * 是否正在暂停取消（保持加载状态）
+     */
+    private boolean suspending;
+    /**
+     * 可见区域
+     */
+    private final Rect visibleRect = new Rect();
+    /**
+     * 是否滑出可见区域，滑出时暂停动画，绘制前检查是否滑回
+     */
+    private boolean offScreen;
+    /**
+     * 绘制模式
+     */
+    private int mode = MODE_REDRAW;
 
     public LoadingView(Context context) {
         super(context);
@@ -110,12 +156,12 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
             angle = array.getFloat(R.styleable.LoadingView_android_angle, angle);
             lineWidth = array.getDimension(R.styleable.LoadingView_lineWidth, lineWidth);
             lineLength = array.getDimension(R.styleable.LoadingView_lineLength, lineLength);
+            mode = array.getInt(R.styleable.LoadingView_loadingMode, mode);
             array.recycle();
         }
         //初始化透明度数据
-        alphas = buildList(minAlpha, maxAlpha, (int) (360 / angle - 1));
-        int alphaSize = alphas.size();
-        initAnimator(alphaSize - 1);
+        alphas = toArray(buildList(minAlpha, maxAlpha, angle > 0 ? (int) (360 / angle - 1) : 0));
+        initAnimator(alphas.length);
         start();
         //初始化线条画笔
         paint = new Paint();
@@ -138,6 +184,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
             diameter = height - getPaddingTop() - getPaddingBottom();
         }
         radius = diameter * 0.90F / 2F;
+        linesDirty = true;
     }
 
     protected float dip(float value) {
@@ -150,7 +197,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      * @param value 透明值数据Size
      */
     protected void initAnimator(int value) {
-        animator = ValueAnimator.ofInt(value - 1);
+        animator = ValueAnimator.ofInt(0, Math.max(value - 1, 0));
         animator.setDuration(duration);
         animator.setInterpolator(new LinearInterpolator());
         animator.setRepeatCount(ValueAnimator.INFINITE);
@@ -159,21 +206,64 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
             @Override
             public void onAnimationEnd(Animator animation) {
                 super.onAnimationEnd(animation);
-                loading = false;
+                if (!suspending) {
+                    loading = false;
+                }
             }
 
             @Override
             public void onAnimationCancel(Animator animation) {
                 super.onAnimationCancel(animation);
-                loading = false;
+                if (!suspending) {
+                    loading = false;
+                }
             }
         });
     }
 
     @Override
     public void onAnimationUpdate(ValueAnimator animation) {
-        alphaPosition = (int) animation.getAnimatedValue();
-        invalidate();
+        int position = (int) animation.getAnimatedValue();
+        if (position != alphaPosition) {
+            alphaPosition = position;
+            //滑出屏幕（例如NestedScrollView中的脚部）时暂停动画，滑回可见区域后在onPreDraw继续
+            if (!getLocalVisibleRect(visibleRect)) {
+                setOffScreen(true);
+                return;
+            }
+            if (mode == MODE_ROTATION) {
+                //透明度每移动一个位置相当于逆时针旋转一个单位角度
+                setRotation(-alphaPosition * angle);
+            } else {
+                invalidate();
+            }
+        }
+    }
+
+    @Override
+    public boolean onPreDraw() {
+        if (offScreen && getLocalVisibleRect(visibleRect)) {
+            setOffScreen(false);
+        }
+        return true;
+    }
+
+    /**
+     * 设置是否滑出可见区域，滑出时暂停动画并监听绘制，滑回时继续
+     *
+     * @param offScreen
+     */
+    protected void setOffScreen(boolean offScreen) {
+        if (this.offScreen == offScreen) {
+            return;
+        }
+        this.offScreen = offScreen;
+        if (offScreen) {
+            getViewTreeObserver().addOnPreDrawListener(this);
+        } else {
+            getViewTreeObserver().removeOnPreDrawListener(this);
+        }
+        updateAnimator();
     }
 
     @Override
@@ -183,23 +273,47 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
     }
 
     /**
-     * 绘制Loading
+     * 绘制Loading，线段端点和透明度都是预先计算好的数组，绘制时不创建对象
      *
      * @param canvas 画布
      */
     protected void drawLoading(Canvas canvas) {
+        if (linesDirty) {
+            updateLines();
+        }
         paint.setColor(lineColor);
         paint.setStrokeWidth(lineWidth);
-        int index = -1;
-        for (float value = 0; value < 360; value += getAngle()) {
-            index++;
-            setLineAlpha(index);
-            double radians = Math.toRadians(value - 2 * Math.PI);
-            float startX = (float) (Math.sin(radians) * (radius - lineLength));
-            float startY = (float) (Math.cos(radians) * (radius - lineLength));
-            float endX = (float) (Math.sin(radians) * radius);
-            float endY = (float) (Math.cos(radians) * radius);
-            canvas.drawLine(centerX + startX, centerY + startY, centerX + endX, centerY + endY, paint);
+        int size = alphas.length;
+        int position = mode == MODE_ROTATION ? 0 : alphaPosition;
+        for (int index = 0; index < lineCount; index++) {
+            if (size > 0) {
+                paint.setAlpha(alphas[((position - 1 - index) % size + size) % size]);
+            }
+            canvas.drawLines(lines, index * 4, 4, paint);
+        }
+    }
+
+    /**
+     * 计算线段端点
+     */
+    protected void updateLines() {
+        linesDirty = false;
+        int count = 0;
+        for (float value = 0; value < 360 && angle > 0; value += angle) {
+            count++;
+        }
+        if (lines.length < count * 4) {
+            lines = new float[count * 4];
+        }
+        lineCount = count;
+        for (int index = 0; index < count; index++) {
+            double radians = Math.toRadians(index * angle - 2 * Math.PI);
+            float sin = (float) Math.sin(radians);
+            float cos = (float) Math.cos(radians);
+            lines[index * 4] = centerX + sin * (radius - lineLength);
+            lines[index * 4 + 1] = centerY + cos * (radius - lineLength);
+            lines[index * 4 + 2] = centerX + sin * radius;
+            lines[index * 4 + 3] = centerY + cos * radius;
         }
     }
 
@@ -213,7 +327,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     protected List<Integer> buildList(int start, int end, int count) {
         List<Integer> alphas = new ArrayList<>();
-        int value = (end - start) / count;
+        int value = Math.max((end - start) / Math.max(count, 1), 1);
         for (int i = start; i < end; i += value) {
             alphas.add(i);
         }
@@ -221,35 +335,17 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
     }
 
     /**
-     * 重组列表
+     * 列表转数组
      *
-     * @param list     透明值列表
-     * @param position 位置
+     * @param list 透明值列表
      * @return
      */
-    protected List<Integer> regroupList(List<Integer> list, int position) {
-        List<Integer> groups = new ArrayList<>();
-        if (position > 0) {
-            groups.addAll(list.subList(position, list.size() - 1));
-            List<Integer> remaining = list.subList(0, position);
-            groups.addAll(remaining);
-        } else {
-            groups.addAll(list);
-        }
-        Collections.reverse(groups);
-        return groups;
-    }
-
-    /**
-     * 设置透明度
-     *
-     * @param index
-     */
-    private void setLineAlpha(int index) {
-        List<Integer> list = regroupList(alphas, alphaPosition);
-        if (index < list.size()) {
-            paint.setAlpha(list.get(index));
+    private int[] toArray(List<Integer> list) {
+        int[] array = new int[list == null ? 0 : list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
         }
+        return array;
     }
 
     /**
@@ -262,28 +358,168 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
     }
 
     /**
-     * 开始
+     * 开始，不可见时等到可见再开始，重复调用不会重新开始
      */
     public void start() {
-        if (animator != null && !isLoading()) {
-            animator.start();
+        if (isLoading()) {
+            return;
         }
+        loading = true;
+        updateAnimator();
     }
 
     /**
      * 取消
      */
     public void cancel() {
+        loading = false;
+        suspendPlayTime = -1;
+        if (animator != null) {
+            animator.cancel();
+        }
+    }
+
+    /**
+     * 是否可以播放动画（已显示在窗口上，可见，没有滑出可见区域并且窗口有焦点）
+     *
+     * @return
+     */
+    protected boolean isAnimatable() {
+        return ViewCompat.isAttachedToWindow(this) && isShown() && !offScreen && hasWindowFocus();
+    }
+
+    /**
+     * 重新创建透明度数据和动画，单位角度、透明度或时长改变时调用，保持加载状态
+     */
+    protected void rebuildAnimator() {
+        alphas = toArray(buildList(minAlpha, maxAlpha, angle > 0 ? (int) (360 / angle - 1) : 0));
+        resetAnimator();
+    }
+
+    /**
+     * 按当前透明度数据和时长重新创建动画，保持加载状态
+     */
+    private void resetAnimator() {
+        boolean restart = loading;
         if (animator != null) {
+            animator.removeAllUpdateListeners();
+            animator.removeAllListeners();
             animator.cancel();
         }
+        suspendPlayTime = -1;
+        alphaPosition = 0;
+        initAnimator(alphas.length);
         loading = false;
+        if (restart) {
+            start();
+        }
+        invalidate();
+    }
+
+    /**
+     * 根据是否可见暂停或继续动画，继续时从暂停的位置开始
+     */
+    protected void updateAnimator() {
+        if (animator == null) {
+            return;
+        }
+        if (loading && isAnimatable()) {
+            if (!animator.isStarted()) {
+                animator.start();
+                if (suspendPlayTime >= 0) {
+                    animator.setCurrentPlayTime(suspendPlayTime);
+                    suspendPlayTime = -1;
+                }
+            } else if (animator.isPaused()) {
+                animator.resume();
+            }
+        } else if (animator.isStarted()) {
+            if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+                //API 24以下暂停的动画仍然每帧回调，改为取消
+                suspendAnimator();
+            } else if (!animator.isPaused()) {
+                animator.pause();
+            }
+        }
+    }
+
+    /**
+     * 取消动画但保持加载状态，记录播放时间，重新开始时从原来的位置继续
+     */
+    protected void suspendAnimator() {
+        if (animator == null || !animator.isStarted()) {
+            return;
+        }
+        suspendPlayTime = animator.getCurrentPlayTime();
+        suspending = true;
+        animator.cancel();
+        suspending = false;
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        updateAnimator();
     }
 
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
-        cancel();
+        //分离窗口时仍然是连接状态，直接取消，避免动画持有View和Context
+        suspendAnimator();
+        if (offScreen) {
+            offScreen = false;
+            getViewTreeObserver().removeOnPreDrawListener(this);
+        }
+    }
+
+    @RequiresApi(Build.VERSION_CODES.N)
+    @Override
+    public void onVisibilityAggregated(boolean isVisible) {
+        super.onVisibilityAggregated(isVisible);
+        updateAnimator();
+    }
+
+    @Override
+    protected void onVisibilityChanged(@NonNull View changedView, int visibility) {
+        super.onVisibilityChanged(changedView, visibility);
+        updateAnimator();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        updateAnimator();
+    }
+
+    @Override
+    public void onWindowFocusChanged(boolean hasWindowFocus) {
+        super.onWindowFocusChanged(hasWindowFocus);
+        updateAnimator();
+    }
+
+    /**
+     * 获取绘制模式
+     *
+     * @return {@link #MODE_REDRAW} or {@link #MODE_ROTATION}
+     */
+    public int getMode() {
+        return mode;
+    }
+
+    /**
+     * 设置绘制模式，{@link #MODE_ROTATION}只绘制一次静态线段，
+     * 动画时只改变View旋转角度，同时显示多个Loading时减少重绘
+     *
+     * @param mode {@link #MODE_REDRAW} or {@link #MODE_ROTATION}
+     */
+    public void setMode(int mode) {
+        if (this.mode == mode) {
+            return;
+        }
+        this.mode = mode;
+        setRotation(mode == MODE_ROTATION ? -alphaPosition * angle : 0);
+        invalidate();
     }
 
     /**
@@ -341,6 +577,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setCenterX(float centerX) {
         this.centerX = centerX;
+        linesDirty = true;
         invalidate();
     }
 
@@ -360,6 +597,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setCenterY(float centerY) {
         this.centerY = centerY;
+        linesDirty = true;
         invalidate();
     }
 
@@ -398,6 +636,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setRadius(float radius) {
         this.radius = radius;
+        linesDirty = true;
         invalidate();
     }
 
@@ -436,6 +675,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setLineLength(float lineLength) {
         this.lineLength = lineLength;
+        linesDirty = true;
         invalidate();
     }
 
@@ -474,7 +714,11 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setAngle(float angle) {
         this.angle = angle;
-        invalidate();
+        linesDirty = true;
+        if (mode == MODE_ROTATION) {
+            setRotation(0);
+        }
+        rebuildAnimator();
     }
 
     /**
@@ -493,7 +737,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setMinAlpha(int minAlpha) {
         this.minAlpha = minAlpha;
-        invalidate();
+        rebuildAnimator();
     }
 
     /**
@@ -512,7 +756,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setMaxAlpha(int maxAlpha) {
         this.maxAlpha = maxAlpha;
-        invalidate();
+        rebuildAnimator();
     }
 
     /**
@@ -531,7 +775,7 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      */
     public void setDuration(int duration) {
         this.duration = duration;
-        invalidate();
+        resetAnimator();
     }
 
     /**
@@ -540,7 +784,11 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      * @return
      */
     public List<Integer> getAlphas() {
-        return alphas;
+        List<Integer> list = new ArrayList<>(alphas.length);
+        for (int alpha : alphas) {
+            list.add(alpha);
+        }
+        return list;
     }
 
     /**
@@ -549,8 +797,8 @@ public class LoadingView extends View implements ValueAnimator.AnimatorUpdateLis
      * @param alphas
      */
     public void setAlphas(List<Integer> alphas) {
-        this.alphas = alphas;
-        invalidate();
+        this.alphas = toArray(alphas);
+        resetAnimator();
     }
 
     /**
@@ -0,0 +1,439 @@
+package androidx.widget;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 分块列表，数据分成多个小数组，
+ * 中间位置增删只移动所在块和块索引，适合数据量很大的列表，
+ * {@link #fill(int, int, Object)}填充的同一个元素只保存元素和个数（重复块）
+ */
+public class SwipeChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    /**
+     * 块大小
+     */
+    private final int chunkSize;
+    /**
+     * 数据块
+     */
+    private final ArrayList<List<E>> chunks = new ArrayList<>();
+    /**
+     * 每个块第一个元素的位置
+     */
+    private int[] starts = new int[8];
+    /**
+     * 位置有效的块个数
+     */
+    private int validCount;
+    /**
+     * 元素个数
+     */
+    private int size;
+
+    public SwipeChunkedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public SwipeChunkedList(int chunkSize) {
+        this.chunkSize = Math.max(chunkSize, 4);
+    }
+
+    public SwipeChunkedList(Collection<? extends E> collection) {
+        this(DEFAULT_CHUNK_SIZE);
+        addAll(collection);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        int chunkIndex = findChunk(index);
+        return chunks.get(chunkIndex).get(index - starts[chunkIndex]);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        int chunkIndex = findChunk(index);
+        List<E> chunk = chunks.get(chunkIndex);
+        if (!(chunk instanceof RepeatChunk)) {
+            return chunk.set(index - starts[chunkIndex], element);
+        }
+        E previous = chunk.get(0);
+        if (previous == element) {
+            return previous;
+        }
+        //从重复块中拆出一个位置，放到前一个普通块或者新的普通块
+        splitChunk(index + 1);
+        chunkIndex = splitChunk(index);
+        List<E> before = chunkIndex > 0 ? chunks.get(chunkIndex - 1) : null;
+        if (before != null && !(before instanceof RepeatChunk) && before.size() < chunkSize) {
+            before.add(element);
+            chunks.remove(chunkIndex);
+        } else {
+            ArrayList<E> single = new ArrayList<>(chunkSize);
+            single.add(element);
+            chunks.set(chunkIndex, single);
+        }
+        invalidate(chunkIndex - 1);
+        return previous;
+    }
+
+    /**
+     * 区间内的元素替换为同一个元素，只保存元素和个数，不占用每个位置的内存，
+     * 和相邻的相同元素重复块合并
+     *
+     * @param fromIndex 开始位置
+     * @param toIndex   结束位置（不包含）
+     * @param element   元素
+     */
+    public void fill(int fromIndex, int toIndex, E element) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("from: " + fromIndex + ", to: " + toIndex + ", size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int first = splitChunk(fromIndex);
+        int last = splitChunk(toIndex);
+        chunks.subList(first, last).clear();
+        chunks.add(first, new RepeatChunk<>(element, toIndex - fromIndex));
+        mergeRepeatChunk(first);
+        if (first > 0) {
+            mergeRepeatChunk(first - 1);
+        }
+        invalidate(first - 1);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        if (chunks.isEmpty()) {
+            chunks.add(new ArrayList<E>(chunkSize));
+        }
+        int chunkIndex = findInsertChunk(index);
+        List<E> chunk = chunks.get(chunkIndex);
+        chunk.add(index - starts(chunkIndex), element);
+        size++;
+        if (chunk.size() > chunkSize) {
+            //拆分成两个块
+            List<E> next = new ArrayList<>(chunk.subList(chunk.size() / 2, chunk.size()));
+            chunk.subList(chunk.size() / 2, chunk.size()).clear();
+            chunks.add(chunkIndex + 1, next);
+        }
+        invalidate(chunkIndex);
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size, collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        checkPositionIndex(index);
+        Object[] array = collection.toArray();
+        if (array.length == 0) {
+            return false;
+        }
+        if (chunks.isEmpty()) {
+            chunks.add(new ArrayList<E>(chunkSize));
+        }
+        int chunkIndex = findInsertChunk(index);
+        List<E> chunk = chunks.get(chunkIndex);
+        int offset = index - starts(chunkIndex);
+        //少量元素直接插入所在块
+        if (chunk.size() + array.length <= chunkSize) {
+            chunk.addAll(offset, asList(array, 0, array.length));
+        } else {
+            //拆出所在块的后半部分，新元素按块大小的一半分块插入
+            ArrayList<E> tail = new ArrayList<>(chunk.subList(offset, chunk.size()));
+            chunk.subList(offset, chunk.size()).clear();
+            ArrayList<List<E>> inserts = new ArrayList<>();
+            int position = 0;
+            int fill = Math.min(array.length, Math.max(0, chunkSize / 2 - chunk.size()));
+            chunk.addAll(asList(array, 0, fill));
+            position += fill;
+            while (position < array.length) {
+                int count = Math.min(chunkSize / 2, array.length - position);
+                ArrayList<E> insert = new ArrayList<>(chunkSize);
+                insert.addAll(asList(array, position, count));
+                inserts.add(insert);
+                position += count;
+            }
+            if (!tail.isEmpty()) {
+                List<E> last = inserts.isEmpty() ? chunk : inserts.get(inserts.size() - 1);
+                if (last.size() + tail.size() <= chunkSize) {
+                    last.addAll(tail);
+                } else {
+                    inserts.add(tail);
+                }
+            }
+            chunks.addAll(chunkIndex + 1, inserts);
+        }
+        size += array.length;
+        invalidate(chunkIndex);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        int chunkIndex = findChunk(index);
+        List<E> chunk = chunks.get(chunkIndex);
+        E previous = chunk.remove(index - starts[chunkIndex]);
+        if (chunk.isEmpty()) {
+            chunks.remove(chunkIndex);
+        }
+        size--;
+        invalidate(chunkIndex);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        int firstChunk = findChunk(fromIndex);
+        int lastChunk = findChunk(toIndex - 1);
+        List<E> first = chunks.get(firstChunk);
+        int firstOffset = fromIndex - starts[firstChunk];
+        if (firstChunk == lastChunk) {
+            first.subList(firstOffset, toIndex - starts[firstChunk]).clear();
+        } else {
+            List<E> last = chunks.get(lastChunk);
+            last.subList(0, toIndex - starts[lastChunk]).clear();
+            first.subList(firstOffset, first.size()).clear();
+            chunks.subList(firstChunk + 1, lastChunk).clear();
+            lastChunk = firstChunk + 1;
+            if (last.isEmpty()) {
+                chunks.remove(lastChunk);
+            }
+        }
+        if (first.isEmpty()) {
+            chunks.remove(firstChunk);
+        }
+        size -= toIndex - fromIndex;
+        invalidate(firstChunk);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        chunks.clear();
+        size = 0;
+        validCount = 0;
+        modCount++;
+    }
+
+    /**
+     * 找到插入位置所在的普通块，位置在重复块中时拆分重复块，
+     * 插入到前一个普通块末尾或者新的普通块
+     *
+     * @param index 插入位置
+     * @return 块位置
+     */
+    private int findInsertChunk(int index) {
+        int chunkIndex = index == size ? chunks.size() - 1 : findChunk(index);
+        if (!(chunks.get(chunkIndex) instanceof RepeatChunk)) {
+            return chunkIndex;
+        }
+        chunkIndex = splitChunk(index);
+        List<E> before = chunkIndex > 0 ? chunks.get(chunkIndex - 1) : null;
+        if (before != null && !(before instanceof RepeatChunk)) {
+            return chunkIndex - 1;
+        }
+        chunks.add(chunkIndex, new ArrayList<E>(chunkSize));
+        invalidate(chunkIndex);
+        return chunkIndex;
+    }
+
+    /**
+     * 在位置处拆分块，使位置成为块的开始
+     *
+     * @param index 位置
+     * @return 从位置开始的块，位置等于个数时返回块个数
+     */
+    private int splitChunk(int index) {
+        if (index == size) {
+            return chunks.size();
+        }
+        int chunkIndex = findChunk(index);
+        int offset = index - starts[chunkIndex];
+        if (offset == 0) {
+            return chunkIndex;
+        }
+        List<E> chunk = chunks.get(chunkIndex);
+        List<E> next;
+        if (chunk instanceof RepeatChunk) {
+            RepeatChunk<E> repeat = (RepeatChunk<E>) chunk;
+            next = new RepeatChunk<>(repeat.element, repeat.count - offset);
+            repeat.count = offset;
+        } else {
+            next = new ArrayList<>(chunk.subList(offset, chunk.size()));
+            chunk.subList(offset, chunk.size()).clear();
+        }
+        chunks.add(chunkIndex + 1, next);
+        invalidate(chunkIndex);
+        return chunkIndex + 1;
+    }
+
+    /**
+     * 合并相邻的相同元素重复块
+     *
+     * @param chunkIndex 块位置，和下一个块合并
+     */
+    private void mergeRepeatChunk(int chunkIndex) {
+        if (chunkIndex + 1 >= chunks.size()) {
+            return;
+        }
+        List<E> chunk = chunks.get(chunkIndex);
+        List<E> next = chunks.get(chunkIndex + 1);
+        if (chunk instanceof RepeatChunk && next instanceof RepeatChunk
+                && ((RepeatChunk<E>) chunk).element == ((RepeatChunk<E>) next).element) {
+            ((RepeatChunk<E>) chunk).count += next.size();
+            chunks.remove(chunkIndex + 1);
+            invalidate(chunkIndex);
+        }
+    }
+
+    /**
+     * 找到位置所在的块
+     *
+     * @param index 位置
+     * @return 块位置
+     */
+    private int findChunk(int index) {
+        updateStarts();
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (starts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param chunkIndex 块位置
+     * @return 块第一个元素的位置
+     */
+    private int starts(int chunkIndex) {
+        updateStarts();
+        return starts[chunkIndex];
+    }
+
+    /**
+     * 块之后的位置失效
+     *
+     * @param chunkIndex 块位置
+     */
+    private void invalidate(int chunkIndex) {
+        validCount = Math.max(0, Math.min(validCount, chunkIndex));
+    }
+
+    /**
+     * 从第一个失效的块开始重新计算位置
+     */
+    private void updateStarts() {
+        int count = chunks.size();
+        if (validCount >= count) {
+            return;
+        }
+        if (starts.length < count) {
+            starts = Arrays.copyOf(starts, Math.max(count, starts.length * 2));
+        }
+        int start = validCount == 0 ? 0 : starts[validCount - 1] + chunks.get(validCount - 1).size();
+        for (int i = validCount; i < count; i++) {
+            starts[i] = start;
+            start += chunks.get(i).size();
+        }
+        validCount = count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E> asList(Object[] array, int from, int count) {
+        return (List<E>) Arrays.asList(array).subList(from, from + count);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * 重复块，同一个元素只保存元素和个数，只支持读取和删除
+     */
+    private static class RepeatChunk<E> extends AbstractList<E> {
+
+        /**
+         * 元素
+         */
+        private final E element;
+        /**
+         * 个数
+         */
+        private int count;
+
+        RepeatChunk(E element, int count) {
+            this.element = element;
+            this.count = count;
+        }
+
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + count);
+            }
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public E remove(int index) {
+            E previous = get(index);
+            count--;
+            return previous;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            count -= toIndex - fromIndex;
+        }
+
+    }
+
+}
@@ -1,54 +1,41 @@
 package androidx.widget;
 
-import android.os.Handler;
-
 import androidx.recyclerview.widget.DefaultItemAnimator;
-import androidx.recyclerview.widget.RecyclerView;
-
-public class SwipeDefaultItemAnimator<T> extends DefaultItemAnimator implements Runnable {
 
-    private long delay = 300;
-    private Handler handler;
-    private SwipeRecyclerAdapter<T> adapter;
+/**
+ * 默认Item动画，普通数据由适配器增删时同步维护，
+ * 动画结束时不再重新创建数据集合
+ */
+public class SwipeDefaultItemAnimator<T> extends DefaultItemAnimator {
 
-    public SwipeDefaultItemAnimator(SwipeRecyclerAdapter<T> adapter) {
+    public SwipeDefaultItemAnimator() {
         super();
-        this.adapter = adapter;
-        handler = new Handler();
-    }
-
-    public void setDelay(long delay) {
-        this.delay = delay;
     }
 
-    @Override
-    public void onRemoveFinished(RecyclerView.ViewHolder item) {
-        super.onRemoveFinished(item);
-        handler.postDelayed(this, delay);
+    /**
+     * @param adapter 适配器
+     * @deprecated 动画结束时不再通知适配器，使用{@link #SwipeDefaultItemAnimator()}
+     */
+    @Deprecated
+    public SwipeDefaultItemAnimator(SwipeRecyclerAdapter<T> adapter) {
+        this();
     }
 
-    @Override
-    public void onAddFinished(RecyclerView.ViewHolder item) {
-        super.onAddFinished(item);
-        handler.postDelayed(this, delay);
-    }
+    /**
+     * @param delay 通知延迟时间
+     * @deprecated 动画结束时不再延迟通知适配器，设置无效
+     */
+    @Deprecated
+    public void setDelay(long delay) {
 
-    @Override
-    public void onMoveFinished(RecyclerView.ViewHolder item) {
-        super.onMoveFinished(item);
-        handler.postDelayed(this, delay);
     }
 
-    @Override
-    public void run() {
-        adapter.notifySwipeItemChanged();
-    }
+    /**
+     * @deprecated 没有需要释放的资源，调用无效
+     */
+    @Deprecated
+    public void release() {
 
-    public void release(){
-        if (handler!=null){
-            handler.removeCallbacksAndMessages(null);
-            handler = null;
-        }
     }
 
 }
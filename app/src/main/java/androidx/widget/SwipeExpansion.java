@@ -15,6 +15,19 @@ public class SwipeExpansion {
      */
     public static final int LOADING = -3;
 
+    /**
+     * 稳定ID - 头部
+     */
+    public static final long ID_HEADER = Long.MIN_VALUE + 1;
+    /**
+     * 稳定ID - 脚部
+     */
+    public static final long ID_FOOTER = Long.MIN_VALUE + 2;
+    /**
+     * 稳定ID - 加载更多
+     */
+    public static final long ID_LOADING = Long.MIN_VALUE + 3;
+
     /**
      * 视图类型 {@link #HEADER} or {@link #FOOTER} or {@link #LOADING}
      */
@@ -27,4 +40,13 @@ public class SwipeExpansion {
     public int getViewType() {
         return viewType;
     }
+
+    /**
+     * 获取保留的稳定ID
+     *
+     * @return {@link #ID_HEADER} or {@link #ID_FOOTER} or {@link #ID_LOADING}
+     */
+    public long getItemId() {
+        return Long.MIN_VALUE - viewType;
+    }
 }
\ No newline at end of file
@@ -8,14 +8,6 @@ package androidx.widget;
  */
 public class SwipeItem<T> {
 
-    /**
-     * item动画
-     */
-    private SwipeItemAnimator<T> itemAnimator;
-    /**
-     * menu动画
-     */
-    private SwipeItemAnimator<T> menuAnimator;
     /**
      * 是否支持侧滑
      */
@@ -32,49 +24,87 @@ public class SwipeItem<T> {
      * 额外Item
      */
     private SwipeExpansion expansion;
-    private SwipeItemTouch swipeItemTouch;
 
     public SwipeItem(SwipeExpansion expansion) {
         this.expansion = expansion;
     }
 
-    public SwipeItem(T data,boolean swipe,SwipeItemAnimator<T> itemAnimator,SwipeItemAnimator<T> menuAnimator) {
-        this.itemAnimator = itemAnimator;
-        this.menuAnimator = menuAnimator;
+    public SwipeItem(T data, boolean swipe) {
         this.data = data;
         this.swipe = swipe;
     }
 
-    public SwipeItem(T data, boolean swipe,boolean open,SwipeItemAnimator<T> itemAnimator,SwipeItemAnimator<T> menuAnimator) {
-        this.itemAnimator = itemAnimator;
-        this.menuAnimator = menuAnimator;
+    public SwipeItem(T data, boolean swipe, boolean open) {
         this.data = data;
         this.swipe = swipe;
         this.open = open;
     }
 
+    /**
+     * @deprecated 侧滑动画已移到ViewHolder，使用 {@link #SwipeItem(Object, boolean)}
+     */
+    @Deprecated
+    public SwipeItem(T data, boolean swipe, SwipeItemAnimator<T> itemAnimator, SwipeItemAnimator<T> menuAnimator) {
+        this(data, swipe);
+    }
+
+    /**
+     * @deprecated 侧滑动画已移到ViewHolder，使用 {@link #SwipeItem(Object, boolean, boolean)}
+     */
+    @Deprecated
+    public SwipeItem(T data, boolean swipe, boolean open, SwipeItemAnimator<T> itemAnimator, SwipeItemAnimator<T> menuAnimator) {
+        this(data, swipe, open);
+    }
+
+    /**
+     * @deprecated 触摸由列表共用的 {@link SwipeItemTouch} 处理，不再按Item保存
+     */
+    @Deprecated
     public void setSwipeItemTouch(SwipeItemTouch swipeItemTouch) {
-        this.swipeItemTouch = swipeItemTouch;
+
     }
 
+    /**
+     * @return 总是null
+     * @deprecated 使用 {@link SwipeRecyclerView#getSwipeItemTouch()}
+     */
+    @Deprecated
     public SwipeItemTouch getSwipeItemTouch() {
-        return swipeItemTouch;
+        return null;
     }
 
+    /**
+     * @return 总是null
+     * @deprecated 使用 {@link ViewHolder#getSwipeAnimator()}
+     */
+    @Deprecated
     public SwipeItemAnimator<T> getItemAnimator() {
-        return itemAnimator;
+        return null;
     }
 
+    /**
+     * @deprecated 使用 {@link ViewHolder#setSwipeAnimator(SwipeItemAnimator)}
+     */
+    @Deprecated
     public void setItemAnimator(SwipeItemAnimator<T> itemAnimator) {
-        this.itemAnimator = itemAnimator;
+
     }
 
+    /**
+     * @return 总是null
+     * @deprecated 菜单和item共用 {@link ViewHolder#getSwipeAnimator()}
+     */
+    @Deprecated
     public SwipeItemAnimator<T> getMenuAnimator() {
-        return menuAnimator;
+        return null;
     }
 
+    /**
+     * @deprecated 菜单和item共用 {@link ViewHolder#setSwipeAnimator(SwipeItemAnimator)}
+     */
+    @Deprecated
     public void setMenuAnimator(SwipeItemAnimator<T> menuAnimator) {
-        this.menuAnimator = menuAnimator;
+
     }
 
     public boolean isSwipe() {
@@ -98,7 +128,7 @@ public class SwipeItem<T> {
     }
 
     public void setData(T ordinary) {
-        this.data = data;
+        this.data = ordinary;
     }
 
     public SwipeExpansion getExpansion() {
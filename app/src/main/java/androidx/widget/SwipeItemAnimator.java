@@ -1,27 +1,66 @@
 package androidx.widget;
 
-import android.animation.Animator;
-import android.animation.ValueAnimator;
+import android.view.Choreographer;
 import android.view.View;
-import android.view.animation.LinearInterpolator;
 
 /**
- * 动画
+ * 侧滑动画，每个ViewHolder一个，
+ * 按帧驱动的临界阻尼弹簧同时移动item和菜单，
+ * 动画中途重新开始时从当前位置和速度继续，不创建新对象
  */
-public class SwipeItemAnimator<T> implements ValueAnimator.AnimatorUpdateListener, Animator.AnimatorListener {
+public class SwipeItemAnimator<T> implements Choreographer.FrameCallback {
+
+    /**
+     * 结束距离（px）
+     */
+    private final float END_DISTANCE = 0.5F;
+    /**
+     * 结束速度（px/s）
+     */
+    private final float END_VELOCITY = 10F;
+    /**
+     * 临界阻尼弹簧衰减到1%所需的ωt
+     */
+    private final float SETTLE_OMEGA_TIME = 6.6F;
 
-    private ValueAnimator animator;
     private int duration = 150;
-    private View animatorView;
     private View itemView;
-    private SwipeRecyclerAdapter<SwipeItem<T>> adapter;
+    private View itemLayout;
+    private View menuLayout;
+    private int menuWidth;
+    /**
+     * 当前位置
+     */
+    private float value;
+    /**
+     * 当前速度（px/s）
+     */
+    private float velocity;
+    /**
+     * 目标位置
+     */
+    private float target;
+    /**
+     * 角频率
+     */
+    private float omega;
+    /**
+     * 上一帧时间
+     */
+    private long frameTimeNanos;
+    /**
+     * 是否正在运行
+     */
+    private boolean running;
+    private SwipeRecyclerAdapter adapter;
 
-    public SwipeItemAnimator(SwipeRecyclerAdapter<SwipeItem<T>> adapter) {
+    public SwipeItemAnimator(SwipeRecyclerAdapter adapter) {
         this.adapter = adapter;
     }
 
     /**
      * 设置时常
+     *
      * @param duration
      */
     public void setDuration(int duration) {
@@ -29,56 +68,106 @@ public class SwipeItemAnimator<T> implements ValueAnimator.AnimatorUpdateListene
     }
 
     /**
-     * 设置item布局动画值
-     *
-     * @param end   结束
+     * @return 是否正在运行
      */
-    public void start(View itemView,View view, float end) {
-        this.itemView = itemView;
-        this.animatorView = view;
-        animator = ValueAnimator.ofFloat(view.getTranslationX(), end);
-        animator.setInterpolator(new LinearInterpolator());
-        animator.addUpdateListener(this);
-        animator.addListener(this);
-        animator.setDuration(duration);
-        animator.start();
+    public boolean isRunning() {
+        return running;
     }
 
     /**
-     * 取消
+     * 开始动画，正在运行时只修改目标位置，保留当前速度
+     *
+     * @param itemView   item
+     * @param itemLayout item容器
+     * @param menuLayout 菜单容器
+     * @param menuWidth  菜单宽度
+     * @param end        item容器结束位置
+     * @param velocity   开始速度（px/s），正在运行时忽略
      */
-    public void cancel() {
-        if (animator != null) {
-            animator.cancel();
+    public void start(View itemView, View itemLayout, View menuLayout, int menuWidth, float end, float velocity) {
+        if (!running || this.itemLayout != itemLayout) {
+            cancel();
+            this.value = itemLayout.getTranslationX();
+            this.velocity = velocity;
         }
-    }
-
-    @Override
-    public void onAnimationUpdate(ValueAnimator valueAnimator) {
-        float value = (Float) valueAnimator.getAnimatedValue();
-        if (animatorView!=null){
-            animatorView.setTranslationX(value);
+        this.itemView = itemView;
+        this.itemLayout = itemLayout;
+        this.menuLayout = menuLayout;
+        this.menuWidth = menuWidth;
+        this.target = end;
+        this.omega = SETTLE_OMEGA_TIME * 1000F / Math.max(duration, 1);
+        if (!running) {
+            running = true;
+            frameTimeNanos = 0;
+            Choreographer.getInstance().postFrameCallback(this);
         }
     }
 
-    @Override
-    public void onAnimationStart(Animator animator) {
-
+    /**
+     * 设置单个布局动画值
+     *
+     * @param itemView item
+     * @param view     动画布局
+     * @param end      结束位置
+     * @deprecated 使用 {@link #start(View, View, View, int, float, float)} 同时移动item和菜单
+     */
+    @Deprecated
+    public void start(View itemView, View view, float end) {
+        start(itemView, view, null, 0, end, 0);
     }
 
-    @Override
-    public void onAnimationEnd(Animator animator) {
-        itemView.setLongClickable(true);
+    /**
+     * 取消
+     */
+    public void cancel() {
+        if (running) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            running = false;
+        }
     }
 
     @Override
-    public void onAnimationCancel(Animator animator) {
-
+    public void doFrame(long frameTimeNanos) {
+        if (!running) {
+            return;
+        }
+        if (this.frameTimeNanos == 0) {
+            this.frameTimeNanos = frameTimeNanos;
+            Choreographer.getInstance().postFrameCallback(this);
+            return;
+        }
+        float dt = Math.min((frameTimeNanos - this.frameTimeNanos) / 1000000000F, 0.064F);
+        this.frameTimeNanos = frameTimeNanos;
+        //临界阻尼弹簧：x(t) = (x0 + (v0 + ωx0)t)e^(-ωt)
+        float distance = value - target;
+        float coefficient = velocity + omega * distance;
+        float decay = (float) Math.exp(-omega * dt);
+        distance = (distance + coefficient * dt) * decay;
+        velocity = (coefficient - omega * (distance / decay)) * decay;
+        value = target + distance;
+        if (Math.abs(distance) < END_DISTANCE && Math.abs(velocity) < END_VELOCITY) {
+            value = target;
+            velocity = 0;
+            running = false;
+        }
+        update();
+        if (running) {
+            Choreographer.getInstance().postFrameCallback(this);
+        } else if (itemView != null) {
+            itemView.setLongClickable(true);
+        }
     }
 
-    @Override
-    public void onAnimationRepeat(Animator animator) {
-
+    /**
+     * 同时更新item和菜单位置
+     */
+    private void update() {
+        if (itemLayout != null) {
+            itemLayout.setTranslationX(value);
+        }
+        if (menuLayout != null) {
+            menuLayout.setTranslationX(value + menuWidth);
+        }
     }
 
 }
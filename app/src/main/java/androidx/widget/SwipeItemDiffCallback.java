@@ -0,0 +1,63 @@
+package androidx.widget;
+
+import androidx.recyclerview.widget.DiffUtil;
+
+import java.util.List;
+
+/**
+ * 复合Item差异比较，Header/Footer/Loading按视图类型固定对应
+ *
+ * @param <T>
+ */
+public class SwipeItemDiffCallback<T> extends DiffUtil.Callback {
+
+    private List<SwipeItem<T>> oldItems;
+    private List<SwipeItem<T>> newItems;
+    private SwipeRecyclerAdapter.ItemDiffCallback<T> callback;
+
+    public SwipeItemDiffCallback(List<SwipeItem<T>> oldItems, List<SwipeItem<T>> newItems, SwipeRecyclerAdapter.ItemDiffCallback<T> callback) {
+        this.oldItems = oldItems;
+        this.newItems = newItems;
+        this.callback = callback;
+    }
+
+    @Override
+    public int getOldListSize() {
+        return oldItems.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+        return newItems.size();
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+        SwipeItem<T> oldItem = oldItems.get(oldItemPosition);
+        SwipeItem<T> newItem = newItems.get(newItemPosition);
+        SwipeExpansion oldExpansion = oldItem.getExpansion();
+        SwipeExpansion newExpansion = newItem.getExpansion();
+        if (oldExpansion != null || newExpansion != null) {
+            return oldExpansion != null && newExpansion != null && oldExpansion.getViewType() == newExpansion.getViewType();
+        }
+        //数据已释放的占位Item不比较
+        if (oldItem.getData() == null || newItem.getData() == null) {
+            return false;
+        }
+        return callback.areItemsTheSame(oldItem.getData(), newItem.getData());
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+        SwipeItem<T> oldItem = oldItems.get(oldItemPosition);
+        SwipeItem<T> newItem = newItems.get(newItemPosition);
+        if (oldItem.getExpansion() != null) {
+            return true;
+        }
+        if (oldItem.getData() == null || newItem.getData() == null) {
+            return false;
+        }
+        return callback.areContentsTheSame(oldItem.getData(), newItem.getData());
+    }
+
+}
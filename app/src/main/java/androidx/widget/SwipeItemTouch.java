@@ -1,191 +1,329 @@
 package androidx.widget;
 
 import android.view.MotionEvent;
+import android.view.VelocityTracker;
 import android.view.View;
+import android.view.ViewConfiguration;
 import android.view.ViewParent;
 
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
 /**
- * 侧滑触摸事件
+ * 侧滑触摸事件，整个列表共用一个，
+ * 只跟踪当前手指按下的Item
  *
  * @param <T>
  */
-public class SwipeItemTouch<T> implements View.OnTouchListener {
+public class SwipeItemTouch<T> implements RecyclerView.OnItemTouchListener, View.OnTouchListener {
 
-    private SwipeRecyclerAdapter<T> adapter;
+    private RecyclerView recyclerView;
+    private SwipeRecyclerAdapter adapter;
     private ViewHolder holder;
-    private int position;
-    private View itemView;
+    private int position = RecyclerView.NO_POSITION;
     //itemView容器
     private View itemLayout;
     //菜单容器
     private View menuLayout;
-    //菜单View
-    private View menuView;
-    private float dx, dy;
+    //item+菜单整体容器（属性动画模式）
+    private View contentLayout;
+    private float downX, downY;
+    private float dx;
     private int directionX;
-    private long dt = 0;
     private boolean isMove;
-    private float distanceX;
-    private float distanceY;
-    private float adx;
-    private float ady;
     //菜单宽度
     private int menuWidth;
 
     //横向滑动阈值
-    private int swipeThreshold = 25;
+    private int swipeThreshold;
     //侧滑移动百分比
-    private float swipeRatio = 1.0F;
-    //侧滑动画持续事件
-    private int swipeDuration = 300;
-    //item动画
-    private SwipeItemAnimator itemAnimator;
-    //菜单动画
-    private SwipeItemAnimator menuAnimator;
+    private float swipeRatio;
+    //侧滑动画持续时间
+    private int swipeDuration;
+    //快速滑动打开/关闭的速度（px/s）
+    private float flingVelocity;
+    //最大速度（px/s）
+    private float maxFlingVelocity;
+    //速度跟踪
+    private VelocityTracker velocityTracker;
+    //最短动画时间
+    private final int MIN_SETTLE_DURATION = 60;
+    //旧接口绑定的适配器
+    private SwipeRecyclerAdapter<T> bindAdapter;
+    //旧接口绑定的ViewHolder
+    private ViewHolder bindHolder;
+    //旧接口绑定的位置
+    private int bindPosition = RecyclerView.NO_POSITION;
+
+    public SwipeItemTouch() {
 
+    }
+
+    /**
+     * @param adapter 适配器
+     * @deprecated 使用 {@link #SwipeItemTouch()} 并添加到列表 {@link RecyclerView#addOnItemTouchListener(RecyclerView.OnItemTouchListener)}
+     */
+    @Deprecated
     public SwipeItemTouch(SwipeRecyclerAdapter<T> adapter) {
-        this.adapter = adapter;
+        this.bindAdapter = adapter;
     }
 
     /**
-     * 初始化
+     * 初始化，按Item打开状态设置侧滑菜单位置
      *
      * @param holder   View容器
      * @param position 位置
+     * @deprecated 绑定时由适配器处理
      */
+    @Deprecated
     public void initialize(ViewHolder holder, int position) {
-        this.holder = holder;
-        this.position = position;
-        itemView = holder.itemView;
-        SwipeItem<T> item = adapter.getSwipeItem(position);
-        itemAnimator = item.getItemAnimator();
-        menuAnimator = item.getMenuAnimator();
-        itemLayout = adapter.findSwipeItemLayout(itemView);
-        menuLayout = adapter.findSwipeMenuLayout(itemView);
-        menuView = adapter.findSwipeMenuView(itemView);
-        menuWidth = menuView == null ? 0 : menuView.getMeasuredWidth();
-        boolean isOpen = item.isOpen();
-        if (isOpen) {
-            openSwipe(false);
-        } else {
-            closeSwipe(false);
+        this.bindHolder = holder;
+        this.bindPosition = position;
+        if (bindAdapter != null) {
+            bindAdapter.onSwipeBindViewHolder(holder, position);
         }
     }
 
-    @Override
-    public boolean onTouch(View v, MotionEvent event) {
-        touchItem(event);
-        return true;
-    }
-
     /**
-     * 不允许打断触摸时间
+     * 转换成列表坐标后按列表触摸事件处理
      *
-     * @param disallow
+     * @deprecated 使用 {@link RecyclerView#addOnItemTouchListener(RecyclerView.OnItemTouchListener)}
      */
-    public void requestDisallowInterceptTouchEvent(boolean disallow) {
-        ViewParent parent = holder.itemView.getParent();
-        if (parent != null) {
-            parent.requestDisallowInterceptTouchEvent(disallow);
+    @Deprecated
+    @Override
+    public boolean onTouch(View v, MotionEvent event) {
+        if (!(v.getParent() instanceof RecyclerView)) {
+            return false;
         }
+        RecyclerView rv = (RecyclerView) v.getParent();
+        MotionEvent e = MotionEvent.obtain(event);
+        e.offsetLocation(v.getLeft() + v.getTranslationX(), v.getTop() + v.getTranslationY());
+        if (isMove) {
+            onTouchEvent(rv, e);
+        } else {
+            onInterceptTouchEvent(rv, e);
+        }
+        e.recycle();
+        return true;
     }
 
-    public void setItemLongClickable(boolean enable) {
-        holder.itemView.setLongClickable(enable);
-    }
-
-    /**
-     * 触摸事件处理
-     *
-     * @param e
-     */
-    protected void touchItem(MotionEvent e) {
-        if (adapter.isSingleSwipe()) {
-            int index = adapter.findOpenSwipeItemPosition();
-            if (index >= 0 && index != position) {
-                return;
-            }
+    @Override
+    public boolean onInterceptTouchEvent(@NonNull RecyclerView rv, @NonNull MotionEvent e) {
+        if (e.getActionMasked() != MotionEvent.ACTION_DOWN && velocityTracker != null) {
+            velocityTracker.addMovement(e);
         }
-        switch (e.getAction()) {
+        switch (e.getActionMasked()) {
             case MotionEvent.ACTION_DOWN:
-                dx = e.getX();
-                dy = e.getY();
-                isMove = false;
-                dt = System.currentTimeMillis();
+                reset();
+                track(rv, e);
                 break;
             case MotionEvent.ACTION_MOVE:
-                distanceX = e.getX() - dx;
-                distanceY = e.getY() - dy;
-                adx = Math.abs(distanceX);
-                ady = Math.abs(distanceY);
-                directionX = distanceX >= 0 ? 1 : -1;
-                isMove = adx > ady && adx > swipeThreshold;
-                itemView.setLongClickable(false);
-                moveSwipeItemMenu(e, distanceX, distanceY);
-                break;
-            case MotionEvent.ACTION_UP:
-            case MotionEvent.ACTION_CANCEL:
-                float itemTransX = itemLayout.getTranslationX();
-                float boundary = Math.abs(itemTransX / menuWidth);
-                boolean open = isSwipeOpen();
-                //左滑动
-                if (directionX == -1 && open == false) {
-                    open = boundary >= 0.10F;
+                if (holder == null || e.getPointerCount() > 1) {
+                    return false;
                 }
-                //右滑动
-                if (directionX == 1 && open == true) {
-                    open = 1 - boundary <= 0.10F;
+                float distanceX = e.getX() - downX;
+                float distanceY = e.getY() - downY;
+                float adx = Math.abs(distanceX);
+                float ady = Math.abs(distanceY);
+                if (adx > ady && adx > swipeThreshold) {
+                    isMove = true;
+                    directionX = distanceX >= 0 ? 1 : -1;
+                    requestDisallowInterceptTouchEvent(true);
+                    setItemLongClickable(false);
+                    holder.cancelSwipeAnimator();
+                    //拦截的这次移动不会再分发到onTouchEvent，补上按下以来的位移
+                    translationSwipeBy(distanceX);
+                    dx = e.getX();
+                    return true;
                 }
-                if (open) {
-                    openSwipe(true);
-                } else {
-                    closeSwipe(true);
+                if (ady > swipeThreshold) {
+                    reset();
                 }
-                if (System.currentTimeMillis() - dt < 30 && isMove) {
-                    isMove = false;
+                break;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                reset();
+                break;
+        }
+        return false;
+    }
+
+    @Override
+    public void onTouchEvent(@NonNull RecyclerView rv, @NonNull MotionEvent e) {
+        if (holder == null) {
+            return;
+        }
+        if (velocityTracker != null) {
+            velocityTracker.addMovement(e);
+        }
+        switch (e.getActionMasked()) {
+            case MotionEvent.ACTION_MOVE:
+                float distanceX = e.getX() - dx;
+                if (distanceX != 0) {
+                    directionX = distanceX > 0 ? 1 : -1;
                 }
+                translationSwipeBy(distanceX);
+                dx = e.getX();
+                break;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                settle();
+                requestDisallowInterceptTouchEvent(false);
+                reset();
                 break;
         }
     }
 
+    @Override
+    public void onRequestDisallowInterceptTouchEvent(boolean disallowIntercept) {
+        if (disallowIntercept && !isMove) {
+            reset();
+        }
+    }
+
     /**
-     * 水平移动item
+     * 按下时找到需要跟踪的Item
      *
-     * @param e   操作事件
-     * @param dtx 水平间距
-     * @param dty 垂直间距
+     * @param rv 列表
+     * @param e  事件
      */
-    private void moveSwipeItemMenu(MotionEvent e, float dtx, float dty) {
-        if (adapter.isSwipeEnable() && e.getPointerCount() < 2) {
-            //水平滑动
-            if (Math.abs(dtx) > Math.abs(dty)) {
-                requestDisallowInterceptTouchEvent(true);
-                setItemLongClickable(false);
-                translationSwipeBy(dtx);
-                dx = e.getX();
-                dy = e.getY();
+    private void track(RecyclerView rv, MotionEvent e) {
+        if (!(rv.getAdapter() instanceof SwipeRecyclerAdapter)) {
+            return;
+        }
+        SwipeRecyclerAdapter swipeAdapter = (SwipeRecyclerAdapter) rv.getAdapter();
+        if (!swipeAdapter.isSwipeEnable()) {
+            return;
+        }
+        View child = rv.findChildViewUnder(e.getX(), e.getY());
+        RecyclerView.ViewHolder viewHolder = child == null ? null : rv.getChildViewHolder(child);
+        if (!(viewHolder instanceof ViewHolder)) {
+            return;
+        }
+        int adapterPosition = viewHolder.getAdapterPosition();
+        if (adapterPosition == RecyclerView.NO_POSITION || swipeAdapter.isExpansion(adapterPosition)
+                || !swipeAdapter.getSwipeItem(adapterPosition).isSwipe()) {
+            return;
+        }
+        if (swipeAdapter.isSingleSwipe()) {
+            int index = swipeAdapter.findOpenSwipeItemPosition();
+            if (index >= 0 && index != adapterPosition) {
+                return;
             }
-            //垂直滑动
-            if (Math.abs(dtx) < Math.abs(dty)) {
+        }
+        ViewHolder swipeHolder = (ViewHolder) viewHolder;
+        if (swipeHolder.getSwipeItemLayout() == null || swipeHolder.getSwipeMenuLayout() == null) {
+            return;
+        }
+        recyclerView = rv;
+        adapter = swipeAdapter;
+        holder = swipeHolder;
+        position = adapterPosition;
+        itemLayout = swipeHolder.getSwipeItemLayout();
+        menuLayout = swipeHolder.getSwipeMenuLayout();
+        contentLayout = swipeHolder.getSwipeContentLayout();
+        menuWidth = swipeAdapter.getSwipeMenuWidth(swipeHolder.getItemViewType(), swipeHolder.getSwipeMenuView());
+        swipeThreshold = swipeAdapter.getSwipeThreshold();
+        swipeRatio = swipeAdapter.getSwipeRatio();
+        swipeDuration = swipeAdapter.getSwipeDuration();
+        float density = rv.getResources().getDisplayMetrics().density;
+        flingVelocity = swipeAdapter.getSwipeFlingVelocity() * density;
+        maxFlingVelocity = ViewConfiguration.get(rv.getContext()).getScaledMaximumFlingVelocity();
+        if (velocityTracker == null) {
+            velocityTracker = VelocityTracker.obtain();
+        }
+        velocityTracker.addMovement(e);
+        downX = e.getX();
+        downY = e.getY();
+    }
 
+    /**
+     * 抬起时根据速度和位移打开或关闭，
+     * 快速滑动超过速度直接打开/关闭，动画时间按剩余距离和速度计算
+     */
+    private void settle() {
+        //按下后数据可能已变化，重新获取位置
+        position = holder.getAdapterPosition();
+        if (position == RecyclerView.NO_POSITION || adapter.isExpansion(position)) {
+            return;
+        }
+        float itemTransX = contentLayout != null ? contentLayout.getTranslationX() : itemLayout.getTranslationX();
+        float boundary = menuWidth == 0 ? 0 : Math.abs(itemTransX / menuWidth);
+        boolean open = adapter.getSwipeItem(position).isOpen();
+        float velocityX = 0;
+        if (velocityTracker != null) {
+            velocityTracker.computeCurrentVelocity(1000, maxFlingVelocity);
+            velocityX = velocityTracker.getXVelocity();
+        }
+        if (flingVelocity > 0 && Math.abs(velocityX) >= flingVelocity) {
+            open = velocityX < 0;
+        } else {
+            //左滑动
+            if (directionX == -1 && open == false) {
+                open = boundary >= 0.10F;
+            }
+            //右滑动
+            if (directionX == 1 && open == true) {
+                open = 1 - boundary <= 0.10F;
             }
         }
+        float distance = Math.abs((open ? -menuWidth : 0) - itemTransX);
+        adapter.setSwipeItemOpen(position, open);
+        adapter.applySwipeMenu(holder, open, true, computeSettleDuration(distance, velocityX), velocityX * swipeRatio);
     }
 
     /**
-     * @return 滑动菜单是否打开
+     * 计算动画时间
+     *
+     * @param distance  剩余距离
+     * @param velocityX 横向速度
+     * @return
      */
-    public boolean isSwipeOpen() {
-        return adapter.getSwipeItem(position).isOpen();
+    private int computeSettleDuration(float distance, float velocityX) {
+        if (menuWidth == 0) {
+            return swipeDuration;
+        }
+        int duration = (int) (swipeDuration * Math.min(1F, distance / menuWidth));
+        float speed = Math.abs(velocityX);
+        if (flingVelocity > 0 && speed >= flingVelocity) {
+            duration = Math.min(duration, (int) (distance / speed * 1000));
+        }
+        return Math.max(Math.min(duration, swipeDuration), Math.min(MIN_SETTLE_DURATION, swipeDuration));
     }
 
     /**
-     * 设置是否滑开
+     * 释放跟踪的Item，避免持有已回收的ViewHolder
+     */
+    public void reset() {
+        recyclerView = null;
+        adapter = null;
+        holder = null;
+        position = RecyclerView.NO_POSITION;
+        itemLayout = null;
+        menuLayout = null;
+        contentLayout = null;
+        directionX = 0;
+        isMove = false;
+        if (velocityTracker != null) {
+            velocityTracker.recycle();
+            velocityTracker = null;
+        }
+    }
+
+    /**
+     * 不允许打断触摸时间
      *
-     * @param open
+     * @param disallow
      */
-    public void setSwipeOpen(boolean open) {
-        adapter.getSwipeItem(position).setOpen(open);
+    public void requestDisallowInterceptTouchEvent(boolean disallow) {
+        ViewParent parent = recyclerView == null ? null : recyclerView.getParent();
+        if (parent != null) {
+            parent.requestDisallowInterceptTouchEvent(disallow);
+        }
+    }
+
+    public void setItemLongClickable(boolean enable) {
+        holder.itemView.setLongClickable(enable);
     }
 
     /**
@@ -195,6 +333,11 @@ public class SwipeItemTouch<T> implements View.OnTouchListener {
      */
     public void translationSwipeBy(float mx) {
         mx *= swipeRatio;
+        //整体容器
+        if (contentLayout != null) {
+            contentLayout.setTranslationX(contentLayout.getTranslationX() + mx);
+            return;
+        }
         if (itemLayout != null) {
             float itemLayoutX = itemLayout.getTranslationX() + mx;
             itemLayout.setTranslationX(itemLayoutX);
@@ -206,84 +349,102 @@ public class SwipeItemTouch<T> implements View.OnTouchListener {
         }
     }
 
+    /**
+     * @return 当前跟踪的ViewHolder
+     */
+    public ViewHolder getViewHolder() {
+        return holder;
+    }
+
+    /**
+     * @return 滑动菜单是否打开
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#getSwipeItem(int)}
+     */
+    @Deprecated
+    public boolean isSwipeOpen() {
+        return bindAdapter != null && bindPosition != RecyclerView.NO_POSITION && bindAdapter.getSwipeItem(bindPosition).isOpen();
+    }
+
+    /**
+     * 设置是否滑开
+     *
+     * @param open
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#setSwipeItemOpen(int, boolean)}
+     */
+    @Deprecated
+    public void setSwipeOpen(boolean open) {
+        if (bindAdapter != null && bindPosition != RecyclerView.NO_POSITION) {
+            bindAdapter.setSwipeItemOpen(bindPosition, open);
+        }
+    }
+
     /**
      * 强制打开侧滑菜单
+     *
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#openSwipe(int, boolean)}
      */
+    @Deprecated
     public void openSwipe(boolean animator) {
-        if (itemLayout != null) {
-            if (animator) {
-                itemAnimator.start(holder.itemView, itemLayout, -menuWidth);
-            } else {
-                itemLayout.setTranslationX(-menuWidth);
-            }
-        }
-        if (menuLayout != null) {
-            if (animator) {
-                menuAnimator.start(itemView, menuLayout, 0);
-            } else {
-                menuLayout.setTranslationX(0);
-            }
-        }
         setSwipeOpen(true);
+        if (bindAdapter != null && bindHolder != null) {
+            bindAdapter.applySwipeMenu(bindHolder, true, animator);
+        }
     }
 
     /**
      * 强制关闭侧滑
+     *
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#closeSwipe(int, boolean)}
      */
+    @Deprecated
     public void closeSwipe(boolean animator) {
-        if (itemLayout != null) {
-            if (animator) {
-                itemAnimator.start(itemView, itemLayout, 0);
-            } else {
-                itemLayout.setTranslationX(0);
-            }
-        }
-        if (menuLayout != null) {
-            if (animator) {
-                menuAnimator.start(itemView, menuLayout, menuWidth);
-            } else {
-                menuLayout.setTranslationX(menuWidth);
-            }
-        }
         setSwipeOpen(false);
+        if (bindAdapter != null && bindHolder != null) {
+            bindAdapter.applySwipeMenu(bindHolder, false, animator);
+        }
     }
 
-
     /**
      * @return 侧滑百分比（移动距离判断）
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#getSwipeRatio()}
      */
+    @Deprecated
     public float getSwipeRatio() {
-        return swipeRatio;
+        return bindAdapter == null ? swipeRatio : bindAdapter.getSwipeRatio();
     }
 
     /**
      * 设置侧滑百分比（移动距离判断）
      *
      * @param swipeRatio
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#setSwipeRatio(float)}
      */
+    @Deprecated
     public void setSwipeRatio(float swipeRatio) {
-        this.swipeRatio = swipeRatio;
+        if (bindAdapter != null) {
+            bindAdapter.setSwipeRatio(swipeRatio);
+        }
     }
 
     /**
-     * @return 侧滑持续动画时长（移动距离判断）
+     * @return 侧滑持续动画时长
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#getSwipeDuration()}
      */
+    @Deprecated
     public int getSwipeDuration() {
-        return swipeDuration;
+        return bindAdapter == null ? swipeDuration : bindAdapter.getSwipeDuration();
     }
 
     /**
-     * 设置侧滑持续动画时长（移动距离判断）
+     * 设置侧滑持续动画时长
      *
      * @param swipeDuration
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#setSwipeDuration(int)}
      */
+    @Deprecated
     public void setSwipeDuration(int swipeDuration) {
-        this.swipeDuration = swipeDuration;
-        if (itemAnimator != null) {
-            itemAnimator.setDuration(swipeDuration);
-        }
-        if (menuAnimator != null) {
-            menuAnimator.setDuration(swipeDuration);
+        if (bindAdapter != null) {
+            bindAdapter.setSwipeDuration(swipeDuration);
         }
     }
 
@@ -291,8 +452,13 @@ public class SwipeItemTouch<T> implements View.OnTouchListener {
      * 滑动阈值
      *
      * @param swipeThreshold
+     * @deprecated 使用 {@link SwipeRecyclerAdapter#setSwipeThreshold(int)}
      */
+    @Deprecated
     public void setSwipeThreshold(int swipeThreshold) {
-        this.swipeThreshold = swipeThreshold;
+        if (bindAdapter != null) {
+            bindAdapter.setSwipeThreshold(swipeThreshold);
+        }
     }
+
 }
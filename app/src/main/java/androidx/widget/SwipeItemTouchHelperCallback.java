@@ -1,5 +1,7 @@
 package androidx.widget;
 
+import android.view.animation.AnimationUtils;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.ItemTouchHelper;
@@ -10,11 +12,11 @@ public class SwipeItemTouchHelperCallback extends ItemTouchHelper.Callback {
 
     //列表控件
     private RecyclerView recyclerView;
-    private int dragPosition = 0;
+    private int dragPosition = RecyclerView.NO_POSITION;
     //开始位置
-    private int fromPosition = 0;
+    private int fromPosition = RecyclerView.NO_POSITION;
     //目标位置
-    private int toPosition = 0;
+    private int toPosition = RecyclerView.NO_POSITION;
     //长按拖拽是否可用
     private boolean longPressDragEnabled;
     //拖动标识
@@ -25,12 +27,24 @@ public class SwipeItemTouchHelperCallback extends ItemTouchHelper.Callback {
     private SwipeRecyclerView.OnItemTouchMoveListener onItemTouchMoveListener;
     //是否自动处理移动逻辑
     private boolean dragMoveAuto = true;
+    //是否拖拽结束时批量提交移动
+    private boolean dragMoveBatch;
     //触摸选中监听
     private SwipeRecyclerView.OnItemTouchSelectedChangedListener onItemTouchSelectedChangedListener;
     //是否自动处理选中逻辑
     private boolean selectedAuto = true;
     //触摸滑动监听
     private SwipeRecyclerView.OnItemTouchSwipedListener onItemTouchSwipedListener;
+    //拖拽到边缘时最大滚动速度（Item/s），小于等于0（默认）使用ItemTouchHelper默认滚动
+    private float dragScrollMaxSpeed = 0F;
+    //拖拽到边缘时加速到最大速度的时间（ms）
+    private long dragScrollAccelerationTime = 1000;
+    //上一次滚动的帧时间
+    private long dragScrollFrameTime;
+    //默认帧时间间隔
+    private final long DRAG_SCROLL_FRAME_TIME = 16;
+    //最大帧时间间隔
+    private final long DRAG_SCROLL_MAX_FRAME_TIME = 64;
 
     /**
      * 否自动处理移动逻辑
@@ -50,6 +64,25 @@ public class SwipeItemTouchHelperCallback extends ItemTouchHelper.Callback {
         this.dragMoveAuto = dragMoveAuto;
     }
 
+    /**
+     * 是否拖拽结束时批量提交移动
+     *
+     * @return
+     */
+    public boolean isDragMoveBatch() {
+        return dragMoveBatch;
+    }
+
+    /**
+     * 设置是否拖拽结束时批量提交移动，拖拽过程中只记录位置，
+     * 结束时移动一次数据并通知一次移动范围
+     *
+     * @param dragMoveBatch
+     */
+    public void setDragMoveBatch(boolean dragMoveBatch) {
+        this.dragMoveBatch = dragMoveBatch;
+    }
+
     /**
      * 否自动处理选择逻辑
      *
@@ -95,6 +128,43 @@ public class SwipeItemTouchHelperCallback extends ItemTouchHelper.Callback {
         this.swipeFlags = swipeFlags;
     }
 
+    /**
+     * 获取拖拽到边缘时最大滚动速度
+     *
+     * @return Item/s
+     */
+    public float getDragScrollMaxSpeed() {
+        return dragScrollMaxSpeed;
+    }
+
+    /**
+     * 设置拖拽到边缘时最大滚动速度，小于等于0使用默认滚动，默认0，
+     * 大于0时按速度和停留时间加速滚动，例如30
+     *
+     * @param dragScrollMaxSpeed Item/s
+     */
+    public void setDragScrollMaxSpeed(float dragScrollMaxSpeed) {
+        this.dragScrollMaxSpeed = dragScrollMaxSpeed;
+    }
+
+    /**
+     * 获取拖拽到边缘时加速到最大速度的时间
+     *
+     * @return ms
+     */
+    public long getDragScrollAccelerationTime() {
+        return dragScrollAccelerationTime;
+    }
+
+    /**
+     * 设置拖拽到边缘时加速到最大速度的时间
+     *
+     * @param dragScrollAccelerationTime ms
+     */
+    public void setDragScrollAccelerationTime(long dragScrollAccelerationTime) {
+        this.dragScrollAccelerationTime = dragScrollAccelerationTime;
+    }
+
     /**
      * 长按拖动移动监听
      *
@@ -146,7 +216,11 @@ public class SwipeItemTouchHelperCallback extends ItemTouchHelper.Callback {
             toPosition = target.getAdapterPosition();
             if (recyclerView.getAdapter() instanceof SwipeRecyclerAdapter) {
                 SwipeRecyclerAdapter adapter = (SwipeRecyclerAdapter) recyclerView.getAdapter();
-                adapter.swapItem(fromPosition, toPosition);
+                if (isDragMoveBatch()) {
+                    adapter.moveDragItem(fromPosition, toPosition);
+                } else {
+                    adapter.swapItem(fromPosition, toPosition);
+                }
             }
         }
         if (onItemTouchMoveListener != null) {
@@ -158,30 +232,76 @@ public class SwipeItemTouchHelperCallback extends ItemTouchHelper.Callback {
     @Override
     public void onSelectedChanged(@Nullable RecyclerView.ViewHolder viewHolder, int actionState) {
         super.onSelectedChanged(viewHolder, actionState);
-        if (isSelectedAuto()) {
-            if (actionState == ItemTouchHelper.ACTION_STATE_DRAG) {
-                dragPosition = viewHolder.getAdapterPosition();
-            }
-            if (actionState == ItemTouchHelper.ACTION_STATE_IDLE) {
-                if (recyclerView != null && recyclerView.getAdapter() != null) {
-                    int from = 0, to = 0;
-                    if (fromPosition < toPosition) {
-                        from = dragPosition;
-                        to = toPosition;
-                    }
-                    if (fromPosition > toPosition) {
-                        from = toPosition;
-                        to = dragPosition;
-                    }
-                    recyclerView.getAdapter().notifyItemRangeChanged(from, from == fromPosition ? 1 : to + 1);
-                }
-            }
+        if (actionState == ItemTouchHelper.ACTION_STATE_DRAG && viewHolder != null) {
+            dragPosition = viewHolder.getAdapterPosition();
+            fromPosition = toPosition = dragPosition;
+        }
+        if (actionState == ItemTouchHelper.ACTION_STATE_IDLE) {
+            dragScrollFrameTime = 0;
+            onDragFinished();
         }
         if (onItemTouchSelectedChangedListener != null) {
             onItemTouchSelectedChangedListener.onItemTouchSelectedChanged(viewHolder, actionState);
         }
     }
 
+    /**
+     * 拖拽到边缘时的滚动距离，ItemTouchHelper每帧调用一次，
+     * 速度 = 最大速度 × 超出边缘深度 × 停留时间加速，再乘以实际帧间隔
+     */
+    @Override
+    public int interpolateOutOfBoundsScroll(@NonNull RecyclerView recyclerView, int viewSize, int viewSizeOutOfBounds, int totalSize, long msSinceStartScroll) {
+        if (dragScrollMaxSpeed <= 0 || viewSize <= 0) {
+            return super.interpolateOutOfBoundsScroll(recyclerView, viewSize, viewSizeOutOfBounds, totalSize, msSinceStartScroll);
+        }
+        if (viewSizeOutOfBounds == 0) {
+            return 0;
+        }
+        long frameTime = AnimationUtils.currentAnimationTimeMillis();
+        long frameDelta = msSinceStartScroll == 0 || dragScrollFrameTime == 0 ? DRAG_SCROLL_FRAME_TIME : frameTime - dragScrollFrameTime;
+        frameDelta = Math.max(0, Math.min(frameDelta, DRAG_SCROLL_MAX_FRAME_TIME));
+        dragScrollFrameTime = frameTime;
+        //同一帧内重复调用，没有经过时间不滚动
+        if (frameDelta == 0) {
+            return 0;
+        }
+        int direction = viewSizeOutOfBounds > 0 ? 1 : -1;
+        float depth = Math.min(1F, Math.abs(viewSizeOutOfBounds) / (float) viewSize);
+        //包含本帧时间，开始滚动的第一帧速度不为0
+        float ramp = dragScrollAccelerationTime <= 0 ? 1F : Math.min(1F, (msSinceStartScroll + frameDelta) / (float) dragScrollAccelerationTime);
+        //加速开始慢，结束平稳
+        ramp = ramp * (2 - ramp);
+        float speed = dragScrollMaxSpeed * viewSize * depth * ramp;
+        float distance = speed * frameDelta / 1000F;
+        if (distance <= 0) {
+            return 0;
+        }
+        //不足1像素时至少滚动1像素，保证ItemTouchHelper持续滚动
+        return direction * Math.max(1, (int) distance);
+    }
+
+    /**
+     * 拖拽结束，提交批量移动并通知开始到结束位置之间的Item
+     */
+    private void onDragFinished() {
+        int from = dragPosition;
+        int to = toPosition;
+        dragPosition = fromPosition = toPosition = RecyclerView.NO_POSITION;
+        RecyclerView.Adapter adapter = recyclerView == null ? null : recyclerView.getAdapter();
+        if (adapter instanceof SwipeRecyclerAdapter) {
+            ((SwipeRecyclerAdapter) adapter).commitDragMove();
+        }
+        if (adapter == null || from == RecyclerView.NO_POSITION || to == RecyclerView.NO_POSITION || from == to) {
+            return;
+        }
+        if (isSelectedAuto()) {
+            adapter.notifyItemRangeChanged(Math.min(from, to), Math.abs(to - from) + 1);
+        }
+        if (onItemTouchMoveListener != null) {
+            onItemTouchMoveListener.onItemTouchMoved(recyclerView, from, to);
+        }
+    }
+
     @Override
     public void onSwiped(@NonNull RecyclerView.ViewHolder viewHolder, int direction) {
         if (onItemTouchSwipedListener != null) {
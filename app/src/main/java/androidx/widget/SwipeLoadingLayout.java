@@ -7,6 +7,7 @@ import android.util.AttributeSet;
 import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import android.widget.LinearLayout;
 import android.widget.TextView;
@@ -85,6 +86,18 @@ public class SwipeLoadingLayout extends LinearLayout implements NestedScrollView
      * 加载更多监听
      */
     private OnLoadingListener onLoadingListener;
+    /**
+     * 是否已经通知加载更多
+     */
+    private boolean loadingMore;
+    /**
+     * 通知加载更多时滑动内容高度
+     */
+    private int loadingScrollRange;
+    /**
+     * 加载更多预加载距离（px），小于0使用滑动控件高度
+     */
+    private int loadingPrefetchDistance = -1;
 
 
     public SwipeLoadingLayout(Context context) {
@@ -148,6 +161,7 @@ public class SwipeLoadingLayout extends LinearLayout implements NestedScrollView
         loadingView.setLineLength(lineLength);
         loadingView.setBackgroundColor(Color.TRANSPARENT);
         loadingView.setLineColor(lineColor);
+        loadingView.setMode(LoadingView.MODE_ROTATION);
         parent.addView(loadingView);
         MarginLayoutParams marginParams = (MarginLayoutParams) loadingView.getLayoutParams();
         marginParams.rightMargin = loadingMarginRight;
@@ -158,6 +172,7 @@ public class SwipeLoadingLayout extends LinearLayout implements NestedScrollView
         textView.setTextSize(TypedValue.COMPLEX_UNIT_SP, textSize);
         parent.addView(textView);
         addView(parent);
+        loading = true;
     }
 
     /**
@@ -205,6 +220,9 @@ public class SwipeLoadingLayout extends LinearLayout implements NestedScrollView
      * @param loading
      */
     public void setLoading(boolean loading) {
+        if (this.loading == loading) {
+            return;
+        }
         this.loading = loading;
         if (loading) {
             setCircleVisibility(VISIBLE);
@@ -336,6 +354,24 @@ public class SwipeLoadingLayout extends LinearLayout implements NestedScrollView
     public void setOnLoadingListener(OnLoadingListener onLoadingListener) {
         this.onLoadingListener = onLoadingListener;
     }
+
+    /**
+     * 设置加载更多预加载距离，小于0使用滑动控件高度（默认）
+     *
+     * @param loadingPrefetchDistance 距离底部的剩余距离（px）
+     */
+    public void setLoadingPrefetchDistance(int loadingPrefetchDistance) {
+        this.loadingPrefetchDistance = loadingPrefetchDistance;
+    }
+
+    /**
+     * 获取加载更多预加载距离
+     *
+     * @return 距离底部的剩余距离（px），小于0使用滑动控件高度
+     */
+    public int getLoadingPrefetchDistance() {
+        return loadingPrefetchDistance;
+    }
     
     public interface OnLoadingListener {
 
@@ -352,29 +388,45 @@ public class SwipeLoadingLayout extends LinearLayout implements NestedScrollView
     }
 
     /**
-     * 处理滑动加载更多
+     * 处理滑动加载更多，距离底部不超过预加载距离时通知，
+     * 滑动内容高度改变或者{@link #resetLoadingMore()}之前不重复通知
      *
      * @param v
      */
     protected void onScrolledMore(View v) {
-        boolean isScrolledTop = v.canScrollVertically(1);
-        boolean isScrolledBottom = v.canScrollVertically(-1);
-        boolean isNotMore = !isScrolledTop && !isScrolledBottom;
+        int range = v instanceof ViewGroup && ((ViewGroup) v).getChildCount() > 0 ? ((ViewGroup) v).getChildAt(0).getHeight() : 0;
+        if (loadingMore && range != loadingScrollRange) {
+            loadingMore = false;
+        }
+        boolean isScrolledEnd = !v.canScrollVertically(1);
+        if (!isScrolledEnd) {
+            int prefetchDistance = loadingPrefetchDistance < 0 ? v.getHeight() : loadingPrefetchDistance;
+            if (range == 0 || range - v.getScrollY() - v.getHeight() > prefetchDistance) {
+                return;
+            }
+        }
         //数据未填满情况
-        if (isNotMore) {
+        if (isScrolledEnd && !v.canScrollVertically(-1)) {
             setLoading(false);
+            return;
         }
-        //列表中间位置
-        if (isScrolledTop && isScrolledBottom) {
-            setLoading(true);
+        if (loadingMore) {
+            return;
         }
-        //滑动到底部情况
-        if (isScrolledBottom && !isScrolledTop) {
-            setLoading(true);
-            if (onLoadingListener != null) {
-                onLoadingListener.onLoading();
-            }
+        //接近底部情况
+        loadingMore = true;
+        loadingScrollRange = range;
+        setLoading(true);
+        if (onLoadingListener != null) {
+            onLoadingListener.onLoading();
         }
     }
 
+    /**
+     * 重置加载更多，加载失败需要重试时调用
+     */
+    public void resetLoadingMore() {
+        loadingMore = false;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package androidx.widget;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 已打开侧滑菜单的位置索引，
+ * 跟随Adapter的插入、删除、移动通知同步位置
+ */
+public class SwipeOpenIndex extends RecyclerView.AdapterDataObserver {
+
+    /**
+     * 适配器
+     */
+    private SwipeRecyclerAdapter adapter;
+    /**
+     * 打开的位置
+     */
+    private int[] positions = new int[4];
+    /**
+     * 打开的个数
+     */
+    private int size;
+
+    public SwipeOpenIndex(SwipeRecyclerAdapter adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * @return 打开的个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index 索引
+     * @return 打开的位置
+     */
+    public int get(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @param position 位置
+     * @return 是否打开
+     */
+    public boolean contains(int position) {
+        return indexOf(position) >= 0;
+    }
+
+    /**
+     * @return 最小的打开位置，没有返回-1
+     */
+    public int first() {
+        int first = -1;
+        for (int i = 0; i < size; i++) {
+            if (first == -1 || positions[i] < first) {
+                first = positions[i];
+            }
+        }
+        return first;
+    }
+
+    /**
+     * @return 打开位置的副本
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    /**
+     * 设置位置是否打开
+     *
+     * @param position 位置
+     * @param open     是否打开
+     */
+    public void set(int position, boolean open) {
+        int index = indexOf(position);
+        if (open && index < 0) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+        if (!open && index >= 0) {
+            positions[index] = positions[--size];
+        }
+    }
+
+    /**
+     * 清空
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 根据Adapter数据重建索引
+     */
+    public void rebuild() {
+        clear();
+        List<SwipeItem> items = adapter.getSwipeItems();
+        int count = items == null ? 0 : items.size();
+        for (int i = 0; i < count; i++) {
+            if (items.get(i).isOpen()) {
+                set(i, true);
+            }
+        }
+    }
+
+    private int indexOf(int position) {
+        for (int i = 0; i < size; i++) {
+            if (positions[i] == position) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void onChanged() {
+        rebuild();
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+        for (int i = 0; i < size; i++) {
+            if (positions[i] >= positionStart) {
+                positions[i] += itemCount;
+            }
+        }
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+        int positionEnd = positionStart + itemCount;
+        for (int i = size - 1; i >= 0; i--) {
+            int position = positions[i];
+            if (position >= positionEnd) {
+                positions[i] -= itemCount;
+            } else if (position >= positionStart) {
+                positions[i] = positions[--size];
+            }
+        }
+    }
+
+    @Override
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+        for (int i = 0; i < size; i++) {
+            int position = positions[i];
+            if (position == fromPosition) {
+                positions[i] = toPosition;
+            } else if (fromPosition < toPosition && position > fromPosition && position <= toPosition) {
+                positions[i]--;
+            } else if (fromPosition > toPosition && position >= toPosition && position < fromPosition) {
+                positions[i]++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,622 @@
+package androidx.widget;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.SparseIntArray;
+import android.util.SparseLongArray;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.List;
+
+/**
+ * 分页加载，只保留可见位置附近的若干页数据，
+ * 远离可见位置的页面替换为占位Item（{@link SwipeRecyclerAdapter#setPlaceholderItems(int, int)}），滑动回来时重新加载，
+ * 数据为null的Item需要在{@link SwipeRecyclerAdapter#onItemBindViewHolder}中显示占位内容，
+ * 占位Item保留位置，列表滑动位置不会跳动，连续的占位Item只保存个数，内存不随滑动距离增长。
+ * 由适配器连接的列表（attachRecyclerView或者setAdapter）滑动时驱动加载，
+ * 通过适配器增删普通数据时按位置调整页面范围，{@link SwipeRecyclerAdapter#setDataSource(List)}替换数据后需要{@link #refresh()}
+ */
+public class SwipePager<T> {
+
+    /**
+     * 页面未加载
+     */
+    public static final int STATE_NONE = 0;
+    /**
+     * 页面加载中
+     */
+    public static final int STATE_LOADING = 1;
+    /**
+     * 页面已加载
+     */
+    public static final int STATE_LOADED = 2;
+    /**
+     * 页面已释放
+     */
+    public static final int STATE_DROPPED = 3;
+
+    /**
+     * 适配器
+     */
+    private SwipeRecyclerAdapter<T> adapter;
+    /**
+     * 页面数据来源
+     */
+    private PageSource<T> pageSource;
+    /**
+     * 每页数据个数
+     */
+    private int pageSize = 20;
+    /**
+     * 初始页码
+     */
+    private int initPage = 1;
+    /**
+     * 保留的页面个数
+     */
+    private int windowSize = 5;
+    /**
+     * 加载失败后的重试间隔（毫秒），连续失败时加倍
+     */
+    private int retryDelay = 1000;
+    /**
+     * 最大重试间隔（毫秒）
+     */
+    private final int MAX_RETRY_DELAY = 30000;
+    /**
+     * 加载中和已加载的页面状态，其他页面不保存（已加载过的为释放，之后的为未加载），只保留窗口内的页面
+     */
+    private final SparseIntArray pageStates = new SparseIntArray();
+    /**
+     * 个数不等于每页个数的页面（最后一页或者通过适配器增删过的页面），其他页面按每页个数计算位置
+     */
+    private final SparseIntArray pageSizes = new SparseIntArray();
+    /**
+     * 页面连续失败次数，只保留窗口附近的页面
+     */
+    private final SparseIntArray pageFailures = new SparseIntArray();
+    /**
+     * 页面可以重试的时间，只保留窗口附近的页面
+     */
+    private final SparseLongArray pageRetryTimes = new SparseLongArray();
+    /**
+     * 是否有页面正在加载，同一时间只加载一页
+     */
+    private boolean pageLoading;
+    /**
+     * 最近一次的可见位置，加载完成后继续检查
+     */
+    private int firstPosition = -1, lastPosition = -1;
+    /**
+     * 已加载的最后一页
+     */
+    private int lastPage;
+    /**
+     * 是否有更多数据
+     */
+    private boolean hasMore = true;
+    /**
+     * 加载次数，刷新后丢弃旧的回调
+     */
+    private int generation;
+    /**
+     * 是否正在修改适配器数据，数据通知不调整页面范围
+     */
+    private boolean dispatching;
+    /**
+     * 页面范围是否失效（数据被替换），{@link #refresh()}之前不再加载
+     */
+    private boolean invalid;
+    private Handler handler;
+
+    public SwipePager(SwipeRecyclerAdapter<T> adapter, PageSource<T> pageSource) {
+        this.adapter = adapter;
+        this.pageSource = pageSource;
+        this.lastPage = initPage - 1;
+        adapter.setPager(this);
+        adapter.registerAdapterDataObserver(new PageObserver());
+    }
+
+    /**
+     * 页面数据来源
+     */
+    public interface PageSource<T> {
+
+        /**
+         * 加载页面，同步来源直接调用callback，异步来源加载完成后调用callback（任意线程）
+         *
+         * @param page     页码
+         * @param pageSize 每页数据个数
+         * @param callback 加载回调
+         */
+        void onLoadPage(int page, int pageSize, PageCallback<T> callback);
+
+    }
+
+    /**
+     * 页面加载回调
+     */
+    public interface PageCallback<T> {
+
+        /**
+         * 加载成功
+         *
+         * @param sources 页面数据
+         */
+        void onPageLoaded(List<T> sources);
+
+        /**
+         * 加载失败，重试间隔之后再次滑动到页面时重新加载
+         */
+        void onPageFailed();
+
+    }
+
+    /**
+     * 设置每页数据个数
+     *
+     * @param pageSize
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * @return 每页数据个数
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 设置初始页码
+     *
+     * @param initPage
+     */
+    public void setInitPage(int initPage) {
+        this.initPage = initPage;
+    }
+
+    /**
+     * @return 初始页码
+     */
+    public int getInitPage() {
+        return initPage;
+    }
+
+    /**
+     * 设置保留的页面个数
+     *
+     * @param windowSize
+     */
+    public void setWindowSize(int windowSize) {
+        this.windowSize = Math.max(1, windowSize);
+    }
+
+    /**
+     * @return 保留的页面个数
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * 设置加载失败后的重试间隔，连续失败时加倍，最多30秒
+     *
+     * @param retryDelay 毫秒
+     */
+    public void setRetryDelay(int retryDelay) {
+        this.retryDelay = Math.max(0, retryDelay);
+    }
+
+    /**
+     * @return 加载失败后的重试间隔（毫秒）
+     */
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * @return 是否有页面正在加载
+     */
+    public boolean isPageLoading() {
+        return pageLoading;
+    }
+
+    /**
+     * @return 是否有更多数据
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    /**
+     * @param page 页码
+     * @return 页面状态
+     */
+    public int getPageState(int page) {
+        int state = pageStates.get(page, -1);
+        if (state >= 0) {
+            return state;
+        }
+        return page >= initPage && page <= lastPage ? STATE_DROPPED : STATE_NONE;
+    }
+
+    /**
+     * 刷新，重新加载初始页
+     */
+    public void refresh() {
+        generation++;
+        pageStates.clear();
+        pageSizes.clear();
+        pageFailures.clear();
+        pageRetryTimes.clear();
+        pageLoading = false;
+        invalid = false;
+        lastPage = initPage - 1;
+        hasMore = true;
+        loadPage(initPage);
+    }
+
+    /**
+     * 列表滑动，加载可见页面和下一页，释放窗口之外的页面
+     *
+     * @param firstPosition 第一个可见位置
+     * @param lastPosition  最后一个可见位置
+     */
+    public void onScrolled(int firstPosition, int lastPosition) {
+        this.firstPosition = firstPosition;
+        this.lastPosition = lastPosition;
+        if (invalid) {
+            return;
+        }
+        //初始页没有加载成功，按重试间隔重新加载
+        if (lastPage < initPage) {
+            if (!pageLoading && isRetryTime(initPage)) {
+                loadPage(initPage);
+            }
+            return;
+        }
+        int offset = adapter.findDataStartPosition();
+        int count = adapter.getItems().size();
+        int first = Math.max(0, Math.min(firstPosition - offset, count - 1));
+        int last = Math.max(0, Math.min(lastPosition - offset, count - 1));
+        int firstPage = findPage(first);
+        int lastVisiblePage = findPage(last);
+        //重新加载可见页面
+        for (int page = firstPage; page <= lastVisiblePage && !pageLoading; page++) {
+            int state = getPageState(page);
+            if ((state == STATE_NONE || state == STATE_DROPPED) && isRetryTime(page)) {
+                loadPage(page);
+            }
+        }
+        //下一页
+        if (!pageLoading && hasMore && lastVisiblePage >= lastPage && isRetryTime(lastPage + 1)) {
+            loadPage(lastPage + 1);
+        }
+        //释放窗口之外的页面，只保留窗口附近的失败记录
+        int before = (windowSize - 1) / 2;
+        int windowFirst = firstPage - before;
+        int windowLast = Math.max(lastVisiblePage, windowFirst + windowSize - 1);
+        for (int i = pageFailures.size() - 1; i >= 0; i--) {
+            int page = pageFailures.keyAt(i);
+            if (page < windowFirst || page > windowLast + 1) {
+                pageFailures.removeAt(i);
+                pageRetryTimes.delete(page);
+            }
+        }
+        for (int i = pageStates.size() - 1; i >= 0; i--) {
+            final int page = pageStates.keyAt(i);
+            if (pageStates.valueAt(i) == STATE_LOADED && (page < windowFirst || page > windowLast)) {
+                pageStates.removeAt(i);
+                final int dropGeneration = generation;
+                runOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (dropGeneration == generation && getPageState(page) == STATE_DROPPED) {
+                            dropPage(page);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 根据页面开始位置查找页码，页面数据个数可以不等于每页个数
+     *
+     * @param index 普通数据位置
+     * @return 页码
+     */
+    protected int findPage(int index) {
+        int low = initPage;
+        int high = lastPage;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (findPageStart(middle) <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 页面第一个数据在普通数据中的位置，按每页个数加上之前页面的个数差计算
+     *
+     * @param page 页码
+     * @return
+     */
+    protected int findPageStart(int page) {
+        int start = (page - initPage) * pageSize;
+        for (int i = 0; i < pageSizes.size() && pageSizes.keyAt(i) < page; i++) {
+            start += pageSizes.valueAt(i) - pageSize;
+        }
+        return start;
+    }
+
+    /**
+     * @param page 页码
+     * @return 页面数据个数
+     */
+    protected int findPageSize(int page) {
+        return pageSizes.get(page, pageSize);
+    }
+
+    /**
+     * 记录页面数据个数，等于每页个数时不保存
+     *
+     * @param page 页码
+     * @param size 数据个数
+     */
+    private void putPageSize(int page, int size) {
+        if (size == pageSize) {
+            pageSizes.delete(page);
+        } else {
+            pageSizes.put(page, size);
+        }
+    }
+
+    /**
+     * @return 所有页面的数据个数
+     */
+    private int findTotalSize() {
+        return lastPage < initPage ? 0 : findPageStart(lastPage) + findPageSize(lastPage);
+    }
+
+    /**
+     * 是否可以加载页面，加载失败后等到重试时间
+     *
+     * @param page 页码
+     * @return
+     */
+    private boolean isRetryTime(int page) {
+        return SystemClock.uptimeMillis() >= pageRetryTimes.get(page, 0);
+    }
+
+    /**
+     * 加载页面
+     *
+     * @param page 页码
+     */
+    protected void loadPage(final int page) {
+        pageStates.put(page, STATE_LOADING);
+        pageLoading = true;
+        final int loadGeneration = generation;
+        pageSource.onLoadPage(page, pageSize, new PageCallback<T>() {
+            @Override
+            public void onPageLoaded(final List<T> sources) {
+                runOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (loadGeneration == generation) {
+                            pageLoading = false;
+                            pageFailures.delete(page);
+                            pageRetryTimes.delete(page);
+                            dispatchPage(page, sources);
+                            checkPages();
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void onPageFailed() {
+                runOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (loadGeneration == generation && getPageState(page) == STATE_LOADING) {
+                            pageLoading = false;
+                            pageStates.delete(page);
+                            //连续失败时重试间隔加倍
+                            int failures = pageFailures.get(page) + 1;
+                            pageFailures.put(page, failures);
+                            long delay = Math.min((long) retryDelay << Math.min(failures - 1, 16), MAX_RETRY_DELAY);
+                            pageRetryTimes.put(page, SystemClock.uptimeMillis() + delay);
+                            //列表停止滑动时也按重试时间重新检查
+                            handler.postDelayed(new Runnable() {
+                                @Override
+                                public void run() {
+                                    if (loadGeneration == generation) {
+                                        checkPages();
+                                    }
+                                }
+                            }, delay);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * 页面加载完成后按最近一次的可见位置继续检查，列表停止滑动时也能加载剩余的可见页面
+     */
+    private void checkPages() {
+        if (lastPage < initPage || (firstPosition >= 0 && lastPosition >= 0)) {
+            onScrolled(firstPosition, lastPosition);
+        }
+    }
+
+    /**
+     * 分发页面数据
+     *
+     * @param page    页码
+     * @param sources 页面数据
+     */
+    protected void dispatchPage(int page, List<T> sources) {
+        int size = sources == null ? 0 : sources.size();
+        pageStates.put(page, STATE_LOADED);
+        dispatching = true;
+        //新页面
+        if (page > lastPage) {
+            lastPage = page;
+            hasMore = size >= pageSize;
+            putPageSize(page, size);
+            if (page == initPage) {
+                //同步设置，之后的页面按当前数据个数计算开始位置
+                adapter.setDataSource(sources, false);
+                adapter.notifyDataSetChanged();
+            } else {
+                adapter.addItems(sources);
+            }
+            dispatching = false;
+            return;
+        }
+        //重新加载的页面
+        List<T> items = adapter.getItems();
+        int start = findPageStart(page);
+        int count = Math.min(Math.min(size, findPageSize(page)), items.size() - start);
+        for (int i = 0; i < count; i++) {
+            items.set(start + i, sources.get(i));
+        }
+        if (count > 0) {
+            adapter.notifyItemRangeChanged(adapter.findDataStartPosition() + start, count);
+        }
+        dispatching = false;
+    }
+
+    /**
+     * 释放页面数据，保留占位Item
+     *
+     * @param page 页码
+     */
+    protected void dropPage(int page) {
+        int start = findPageStart(page);
+        int count = Math.min(findPageSize(page), adapter.getItems().size() - start);
+        pageStates.delete(page);
+        dispatching = true;
+        adapter.setPlaceholderItems(start, count);
+        dispatching = false;
+    }
+
+    /**
+     * 主线程执行，同步来源也延后执行，避免在列表滑动回调中修改数据
+     *
+     * @param runnable
+     */
+    private void runOnMainThread(Runnable runnable) {
+        if (handler == null) {
+            handler = new Handler(Looper.getMainLooper());
+        }
+        handler.post(runnable);
+    }
+
+    /**
+     * 普通数据增删时调整页面范围，插入的数据属于插入位置之前的页面，
+     * 数据被替换时页面范围失效
+     */
+    private class PageObserver extends RecyclerView.AdapterDataObserver {
+
+        @Override
+        public void onChanged() {
+            if (!dispatching && lastPage >= initPage && adapter.getItems().size() != findTotalSize()) {
+                invalid = true;
+                generation++;
+                pageLoading = false;
+            }
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            int dataCount = adapter.getItems().size();
+            if (dispatching || invalid || lastPage < initPage || dataCount == findTotalSize()) {
+                return;
+            }
+            if (dataCount - findTotalSize() != itemCount) {
+                onChanged();
+                return;
+            }
+            int index = positionStart - adapter.findDataStartPosition();
+            int page = findPage(Math.max(index - 1, 0));
+            putPageSize(page, findPageSize(page) + itemCount);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            int dataCount = adapter.getItems().size();
+            if (dispatching || invalid || lastPage < initPage || dataCount == findTotalSize()) {
+                return;
+            }
+            if (findTotalSize() - dataCount != itemCount) {
+                onChanged();
+                return;
+            }
+            int index = positionStart - adapter.findDataStartPosition();
+            removePageRange(index, itemCount);
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            if (dispatching || invalid || lastPage < initPage) {
+                return;
+            }
+            int offset = adapter.findDataStartPosition();
+            int total = findTotalSize();
+            int from = fromPosition - offset;
+            int to = toPosition - offset;
+            if (from < 0 || from >= total || to < 0 || to >= total) {
+                return;
+            }
+            removePageRange(from, itemCount);
+            int page = findPage(Math.max(to - 1, 0));
+            putPageSize(page, findPageSize(page) + itemCount);
+        }
+
+        /**
+         * 从覆盖的页面中减去删除的个数
+         *
+         * @param index 普通数据位置
+         * @param count 删除个数
+         */
+        private void removePageRange(int index, int count) {
+            int page = findPage(index);
+            while (count > 0 && page <= lastPage) {
+                int start = findPageStart(page);
+                int size = findPageSize(page);
+                int removed = Math.min(count, start + size - Math.max(index, start));
+                if (removed > 0) {
+                    putPageSize(page, size - removed);
+                    count -= removed;
+                }
+                page++;
+            }
+        }
+
+    }
+
+    /**
+     * 释放，丢弃未完成的回调
+     */
+    public void release() {
+        generation++;
+        pageLoading = false;
+        if (handler != null) {
+            handler.removeCallbacksAndMessages(null);
+        }
+    }
+
+}
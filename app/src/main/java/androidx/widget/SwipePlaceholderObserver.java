@@ -0,0 +1,78 @@
+package androidx.widget;
+
+import android.view.View;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * 空视图显示控制，跟随Adapter的数据通知，
+ * 只有数据个数在0和非0之间变化时才修改空视图
+ */
+public class SwipePlaceholderObserver extends RecyclerView.AdapterDataObserver {
+
+    /**
+     * 未知状态
+     */
+    private final int STATE_UNKNOWN = -1;
+    /**
+     * 有数据
+     */
+    private final int STATE_CONTENT = 0;
+    /**
+     * 空数据
+     */
+    private final int STATE_EMPTY = 1;
+
+    /**
+     * 适配器
+     */
+    private SwipeRecyclerAdapter adapter;
+    /**
+     * 当前状态
+     */
+    private int state = STATE_UNKNOWN;
+
+    public SwipePlaceholderObserver(SwipeRecyclerAdapter adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * 根据数据个数更新空视图
+     */
+    public void update() {
+        View placeholder = adapter.getPlaceholder();
+        if (placeholder == null) {
+            state = STATE_UNKNOWN;
+            return;
+        }
+        int value = adapter.getSwipeItemCount() == 0 ? STATE_EMPTY : STATE_CONTENT;
+        if (value == state) {
+            return;
+        }
+        state = value;
+        placeholder.setVisibility(value == STATE_EMPTY ? View.VISIBLE : View.GONE);
+    }
+
+    /**
+     * 重置状态，下次更新时重新设置空视图
+     */
+    public void reset() {
+        state = STATE_UNKNOWN;
+    }
+
+    @Override
+    public void onChanged() {
+        update();
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+        update();
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+        update();
+    }
+
+}
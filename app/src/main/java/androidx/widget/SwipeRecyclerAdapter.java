@@ -1,24 +1,39 @@
 package androidx.widget;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Color;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.SparseIntArray;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.animation.DecelerateInterpolator;
 import android.widget.FrameLayout;
 
 import androidx.annotation.ColorRes;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.core.os.ConfigurationCompat;
+import androidx.core.util.ObjectsCompat;
 import androidx.core.widget.NestedScrollView;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Recycler使用的基础Adapter
@@ -28,6 +43,10 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     public final int R_ID_LOADING_MORE = R.id.item_loading_more;
     private final int MATCH_PARENT = ViewGroup.LayoutParams.MATCH_PARENT;
     private final int WRAP_CONTENT = ViewGroup.LayoutParams.WRAP_CONTENT;
+    /**
+     * 混合数据超过此个数时使用分块列表
+     */
+    private final int CHUNKED_ITEMS_THRESHOLD = 4096;
     /**
      * 侧滑item - ViewGroup
      */
@@ -40,6 +59,19 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * 侧滑菜单
      */
     private final int ID_SWIPE_MENU = 3;
+    /**
+     * 侧滑item+菜单整体 - ViewGroup（{@link #SWIPE_ANIMATION_PROPERTY}）
+     */
+    private final int ID_SWIPE_CONTENT_GROUP = 4;
+
+    /**
+     * 侧滑动画 - item和菜单分别位移，弹簧动画
+     */
+    public static final int SWIPE_ANIMATION_SPRING = 0;
+    /**
+     * 侧滑动画 - item和菜单放在同一个容器，只对容器做translationX属性动画
+     */
+    public static final int SWIPE_ANIMATION_PROPERTY = 1;
 
     /**
      * 上下文对象
@@ -49,15 +81,22 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * 混合数据集合
      */
     private List<SwipeItem<T>> items;
-    private int lastPosition;
     /**
      * 扩展数据集合
      */
     private List<SwipeExpansion> expansions;
     /**
-     * 扩展数据集合
+     * 拖拽开始位置（批量提交模式）
+     */
+    private int dragFromPosition = RecyclerView.NO_POSITION;
+    /**
+     * 拖拽目标位置（批量提交模式）
      */
-    private List<T> dataList;
+    private int dragToPosition = RecyclerView.NO_POSITION;
+    /**
+     * 普通数据集合（混合数据集合的视图）
+     */
+    private final List<T> dataList = new DataList();
     /**
      * 空视图
      */
@@ -133,6 +172,49 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * 滑动助手
      */
     private SwipeRecyclerScrollListener scrollListener;
+    /**
+     * 加载更多预加载距离（剩余Item个数）
+     */
+    private int loadingPrefetchDistance = 5;
+    /**
+     * 是否正在加载更多
+     */
+    private boolean loadingMore;
+    /**
+     * 是否正在加载上一页
+     */
+    private boolean loadingPrevious;
+    /**
+     * 开始加载上一页时普通数据个数
+     */
+    private int loadingPreviousDataCount;
+    /**
+     * 设置数据后第一次布局是否已经稳定，稳定前布局回调不加载上一页
+     */
+    private boolean loadingPreviousSettled;
+    /**
+     * 分页加载
+     */
+    private SwipePager<T> pager;
+    /**
+     * 分页加载滑动监听，连接的列表（包括只调用setAdapter的列表）滑动时驱动分页加载
+     */
+    private final RecyclerView.OnScrollListener pagerScrollListener = new RecyclerView.OnScrollListener() {
+        @Override
+        public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+            if (pager != null && recyclerView.getAdapter() == SwipeRecyclerAdapter.this) {
+                pager.onScrolled(findFirstVisiblePosition(recyclerView), findLastVisiblePosition(recyclerView));
+            }
+        }
+    };
+    /**
+     * 占位Item（没有数据，不能侧滑），{@link #setPlaceholderItems(int, int)}设置的位置共用
+     */
+    private SwipeItem<T> placeholderItem;
+    /**
+     * 开始加载更多时普通数据个数
+     */
+    private int loadingDataCount;
     /**
      * 横向滑动阈值
      */
@@ -146,9 +228,17 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      */
     private int swipeDuration = 300;
     /**
-     * 通知延迟时间
+     * 快速滑动打开/关闭的速度（dp/s）
+     */
+    private int swipeFlingVelocity = 400;
+    /**
+     * 侧滑动画模式
+     */
+    private int swipeAnimationMode = SWIPE_ANIMATION_SPRING;
+    /**
+     * 属性动画插值器
      */
-    private int notifyDelay = 300;
+    private final DecelerateInterpolator swipeInterpolator = new DecelerateInterpolator();
     /**
      * 加载更多背景颜色
      */
@@ -168,10 +258,236 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     /**
      * item默认动画
      */
-    private SwipeDefaultItemAnimator defaultItemAnimator;
+    private SwipeDefaultItemAnimator<T> defaultItemAnimator;
+    /**
+     * 数据差异比较回调
+     */
+    private ItemDiffCallback<T> itemDiffCallback;
+    /**
+     * 差异比较线程，所有适配器共用一个守护线程，不需要释放
+     */
+    private static ExecutorService diffExecutor;
+    /**
+     * 主线程Handler
+     */
+    private Handler mainHandler;
+    /**
+     * 差异比较版本，用于丢弃过期结果
+     */
+    private volatile int diffGeneration;
+    /**
+     * 是否有未分发的差异比较
+     */
+    private boolean diffPending;
+    /**
+     * 正在比较差异的数据源（副本），比较期间通过{@link #getItems()}的修改直接作用在这里
+     */
+    private List<T> pendingSources;
+    /**
+     * 差异比较期间排队的修改，比较结果分发之后按顺序执行
+     */
+    private List<Runnable> pendingEdits;
+    /**
+     * 数据修改次数，差异比较期间数据被修改时比较结果不可用，后台重新比较
+     */
+    private int itemsModCount;
+    /**
+     * 已打开侧滑菜单的位置索引
+     */
+    private SwipeOpenIndex openIndex;
+    /**
+     * 打开位置索引是否跟随Adapter通知
+     */
+    private boolean openIndexObserving;
+    /**
+     * 空视图显示控制
+     */
+    private SwipePlaceholderObserver placeholderObserver;
+    /**
+     * 稳定ID提供者
+     */
+    private ItemIdProvider<T> itemIdProvider;
+    /**
+     * 等待预创建的ViewHolder个数（视图类型-个数）
+     */
+    private SparseIntArray prefetchCounts;
+    /**
+     * 连接适配器的列表控件（包括只调用setAdapter的列表），同一个适配器可以连接多个列表
+     */
+    private final List<RecyclerView> attachedRecyclerViews = new ArrayList<>();
+    /**
+     * 菜单宽度缓存（视图类型-宽度）
+     */
+    private SparseIntArray menuWidths;
+    /**
+     * 菜单宽度缓存对应的配置，只在创建缓存和配置改变时读取
+     */
+    private int menuScreenWidthDp, menuDensityDpi;
+    private Locale menuLocale;
+    /**
+     * 是否缓存ViewHolder.find查找的控件
+     */
+    private boolean findCacheEnabled;
+    /**
+     * 侧滑触摸（非SwipeRecyclerView时使用）
+     */
+    private SwipeItemTouch itemTouch;
 
     public SwipeRecyclerAdapter(Context context) {
         this.context = context;
+        openIndex = new SwipeOpenIndex(this);
+        placeholderObserver = new SwipePlaceholderObserver(this);
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        attachedRecyclerViews.add(recyclerView);
+        if (!openIndexObserving) {
+            openIndex.rebuild();
+            registerAdapterDataObserver(openIndex);
+            registerAdapterDataObserver(placeholderObserver);
+            openIndexObserving = true;
+        }
+        placeholderObserver.update();
+        addItemTouch(recyclerView);
+        recyclerView.removeOnScrollListener(pagerScrollListener);
+        recyclerView.addOnScrollListener(pagerScrollListener);
+        if (prefetchCounts != null) {
+            for (int i = 0; i < prefetchCounts.size(); i++) {
+                schedulePrefetch(recyclerView, prefetchCounts.keyAt(i), prefetchCounts.valueAt(i));
+            }
+            prefetchCounts = null;
+        }
+    }
+
+    /**
+     * 预创建ViewHolder，在主线程空闲时逐个创建侧滑容器并放入RecycledViewPool，
+     * 首屏创建ViewHolder时直接复用，未连接RecyclerView时等连接后开始
+     *
+     * @param viewType 视图类型（不包含Header/Footer/Loading）
+     * @param count    个数
+     */
+    public void prefetchViewHolders(int viewType, int count) {
+        if (viewType < 0 || count <= 0) {
+            return;
+        }
+        RecyclerView parent = findRecyclerView();
+        if (parent == null) {
+            if (prefetchCounts == null) {
+                prefetchCounts = new SparseIntArray();
+            }
+            prefetchCounts.put(viewType, count);
+            return;
+        }
+        schedulePrefetch(parent, viewType, count);
+    }
+
+    /**
+     * 添加空闲预创建任务
+     *
+     * @param parent   列表控件
+     * @param viewType 视图类型
+     * @param count    个数
+     */
+    private void schedulePrefetch(RecyclerView parent, int viewType, int count) {
+        Looper.myQueue().addIdleHandler(new ViewHolderPrefetcher(parent, viewType, count));
+    }
+
+    /**
+     * 空闲时预创建ViewHolder，每次空闲只创建一个，避免占用帧时间
+     */
+    private class ViewHolderPrefetcher implements MessageQueue.IdleHandler {
+
+        private RecyclerView parent;
+        private int viewType;
+        private int remaining;
+
+        public ViewHolderPrefetcher(RecyclerView parent, int viewType, int count) {
+            this.parent = parent;
+            this.viewType = viewType;
+            this.remaining = count;
+        }
+
+        @Override
+        public boolean queueIdle() {
+            if (remaining <= 0 || parent.getAdapter() != SwipeRecyclerAdapter.this) {
+                return false;
+            }
+            RecyclerView.RecycledViewPool pool = parent.getRecycledViewPool();
+            int recycled = pool.getRecycledViewCount(viewType);
+            RecyclerView.ViewHolder holder = createViewHolder(parent, viewType);
+            pool.putRecycledView(holder);
+            if (pool.getRecycledViewCount(viewType) == recycled) {
+                //缓存池已满，上限为0表示不缓存此类型，直接停止
+                if (recycled == 0) {
+                    return false;
+                }
+                //只在现有上限基础上提高，不会降低应用设置的上限
+                pool.setMaxRecycledViews(viewType, recycled + remaining);
+                pool.putRecycledView(holder);
+            }
+            remaining--;
+            return remaining > 0;
+        }
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        attachedRecyclerViews.remove(recyclerView);
+        if (itemTouch != null) {
+            recyclerView.removeOnItemTouchListener(itemTouch);
+        }
+        recyclerView.removeOnScrollListener(pagerScrollListener);
+        //最后一个列表断开时才停止跟随通知
+        if (openIndexObserving && attachedRecyclerViews.isEmpty()) {
+            unregisterAdapterDataObserver(openIndex);
+            unregisterAdapterDataObserver(placeholderObserver);
+            openIndexObserving = false;
+        }
+    }
+
+    /**
+     * 查找列表控件，优先使用{@link #attachRecyclerView(RecyclerView)}连接的列表，
+     * 没有时使用最后一个通过setAdapter连接的列表
+     *
+     * @return 没有连接时返回null
+     */
+    protected RecyclerView findRecyclerView() {
+        if (recyclerView != null) {
+            return recyclerView;
+        }
+        int size = attachedRecyclerViews.size();
+        return size == 0 ? null : attachedRecyclerViews.get(size - 1);
+    }
+
+    /**
+     * 添加侧滑触摸，SwipeRecyclerView自带侧滑触摸不需要添加
+     *
+     * @param recyclerView 列表控件
+     */
+    private void addItemTouch(RecyclerView recyclerView) {
+        if (recyclerView instanceof SwipeRecyclerView) {
+            return;
+        }
+        if (itemTouch == null) {
+            itemTouch = new SwipeItemTouch();
+        }
+        recyclerView.removeOnItemTouchListener(itemTouch);
+        recyclerView.addOnItemTouchListener(itemTouch);
+    }
+
+    /**
+     * 获取已打开侧滑菜单的位置索引
+     *
+     * @return
+     */
+    protected SwipeOpenIndex getOpenIndex() {
+        if (!openIndexObserving) {
+            openIndex.rebuild();
+        }
+        return openIndex;
     }
 
     /**
@@ -210,8 +526,8 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
             scrollListener.setOnScrollListener(this);
         }
         recyclerView.addOnScrollListener(scrollListener);
-        defaultItemAnimator = new SwipeDefaultItemAnimator(this);
-        defaultItemAnimator.setDelay(notifyDelay);
+        addItemTouch(recyclerView);
+        defaultItemAnimator = new SwipeDefaultItemAnimator<>();
         recyclerView.setItemAnimator(defaultItemAnimator);
         this.recyclerView = recyclerView;
     }
@@ -260,6 +576,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     @Override
     public void onScrolled(RecyclerView v, int dx, int dy) {
         onScrolledMore(v);
+        onScrolledPrevious(v, dy);
     }
 
     @Override
@@ -268,7 +585,8 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     }
 
     /**
-     * 处理滑动加载更多
+     * 处理滑动加载更多，最后可见Item距离末尾不超过预加载距离时加载，
+     * 数据个数改变或者{@link #resetLoadingMore()}之前不重复加载
      *
      * @param v
      */
@@ -276,30 +594,179 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         if (isScrollClose()) {
             closeSwipe();
         }
-        if (isHasLoading() && isShowLoading()) {
-            boolean isScrolledTop = v.canScrollVertically(1);
-            boolean isScrolledBottom = v.canScrollVertically(-1);
-            boolean isNotMore = !isScrolledTop && !isScrolledBottom;
+        if (!isHasLoading() || !isShowLoading()) {
+            return;
+        }
+        if (loadingMore && dataList.size() != loadingDataCount) {
+            loadingMore = false;
+        }
+        boolean isScrolledEnd;
+        if (v instanceof RecyclerView) {
+            int lastPosition = findLastVisiblePosition((RecyclerView) v);
+            if (lastPosition == RecyclerView.NO_POSITION || lastPosition < getSwipeItemCount() - 1 - loadingPrefetchDistance) {
+                return;
+            }
+            isScrolledEnd = lastPosition >= getSwipeItemCount() - 1;
+        } else {
+            isScrolledEnd = !v.canScrollVertically(1);
+            if (!isScrolledEnd) {
+                return;
+            }
+        }
+        //数据未填满情况
+        if (isScrolledEnd && !v.canScrollVertically(-1)) {
             if (defaultLoadingView != null) {
-                //数据未填满情况
-                if (isNotMore) {
-                    defaultLoadingView.setLoading(false);
-                }
-                //列表中间位置
-                if (isScrolledTop && isScrolledBottom) {
-                    defaultLoadingView.setLoading(true);
-                }
+                defaultLoadingView.setLoading(false);
             }
-            //滑动到底部情况
-            if (isScrolledBottom && !isScrolledTop) {
-                if (defaultLoadingView != null) {
-                    defaultLoadingView.setLoading(true);
-                }
-                if (onLoadingListener != null) {
-                    onLoadingListener.onLoading();
+            return;
+        }
+        if (loadingMore) {
+            return;
+        }
+        loadingMore = true;
+        loadingDataCount = dataList.size();
+        if (defaultLoadingView != null) {
+            defaultLoadingView.setLoading(true);
+        }
+        if (onLoadingListener != null) {
+            onLoadingListener.onLoading();
+        }
+    }
+
+    /**
+     * 处理滑动加载上一页，向上滑动或者设置数据后第一次布局稳定时，
+     * 第一个可见Item距离开头不超过预加载距离时加载，
+     * 数据个数改变或者{@link #resetLoadingPrevious()}之前不重复加载
+     *
+     * @param v  列表
+     * @param dy 垂直滑动距离，布局回调为0
+     */
+    protected void onScrolledPrevious(final RecyclerView v, int dy) {
+        if (onLoadingPreviousListener == null || items == null || dy > 0) {
+            return;
+        }
+        //第一次布局时滚动位置可能还没确定（scrollToPosition等），下一帧再检查
+        if (dy == 0 && !loadingPreviousSettled) {
+            loadingPreviousSettled = true;
+            v.post(new Runnable() {
+                @Override
+                public void run() {
+                    if (v.getAdapter() == SwipeRecyclerAdapter.this) {
+                        onScrolledPrevious(v, 0);
+                    }
                 }
+            });
+            return;
+        }
+        if (loadingPrevious && dataList.size() != loadingPreviousDataCount) {
+            loadingPrevious = false;
+        }
+        int firstPosition = findFirstVisiblePosition(v);
+        if (loadingPrevious || firstPosition == RecyclerView.NO_POSITION || firstPosition > findDataStartPosition() + loadingPrefetchDistance) {
+            return;
+        }
+        loadingPrevious = true;
+        loadingPreviousDataCount = dataList.size();
+        onLoadingPreviousListener.onLoadingPrevious();
+    }
+
+    /**
+     * 是否正在加载上一页
+     *
+     * @return
+     */
+    public boolean isLoadingPrevious() {
+        return loadingPrevious;
+    }
+
+    /**
+     * 重置加载上一页，加载失败需要重试时调用
+     */
+    public void resetLoadingPrevious() {
+        loadingPrevious = false;
+    }
+
+    /**
+     * 找到第一个可见Item位置
+     *
+     * @param v 列表
+     * @return
+     */
+    protected int findFirstVisiblePosition(RecyclerView v) {
+        int position = RecyclerView.NO_POSITION;
+        for (int i = 0; i < v.getChildCount(); i++) {
+            int childPosition = v.getChildAdapterPosition(v.getChildAt(i));
+            if (childPosition != RecyclerView.NO_POSITION && (position == RecyclerView.NO_POSITION || childPosition < position)) {
+                position = childPosition;
             }
         }
+        return position;
+    }
+
+    /**
+     * 找到最后可见Item位置
+     *
+     * @param v 列表
+     * @return
+     */
+    protected int findLastVisiblePosition(RecyclerView v) {
+        int position = RecyclerView.NO_POSITION;
+        for (int i = v.getChildCount() - 1; i >= 0; i--) {
+            position = Math.max(position, v.getChildAdapterPosition(v.getChildAt(i)));
+        }
+        return position;
+    }
+
+    /**
+     * 获取分页加载
+     *
+     * @return
+     */
+    public SwipePager<T> getPager() {
+        return pager;
+    }
+
+    /**
+     * 设置分页加载，由{@link SwipePager}创建时调用
+     *
+     * @param pager
+     */
+    public void setPager(SwipePager<T> pager) {
+        this.pager = pager;
+    }
+
+    /**
+     * 设置加载更多预加载距离
+     *
+     * @param loadingPrefetchDistance 剩余Item个数
+     */
+    public void setLoadingPrefetchDistance(int loadingPrefetchDistance) {
+        this.loadingPrefetchDistance = Math.max(0, loadingPrefetchDistance);
+    }
+
+    /**
+     * 获取加载更多预加载距离
+     *
+     * @return 剩余Item个数
+     */
+    public int getLoadingPrefetchDistance() {
+        return loadingPrefetchDistance;
+    }
+
+    /**
+     * 是否正在加载更多
+     *
+     * @return
+     */
+    public boolean isLoadingMore() {
+        return loadingMore;
+    }
+
+    /**
+     * 重置加载更多，加载失败需要重试时调用
+     */
+    public void resetLoadingMore() {
+        loadingMore = false;
     }
 
     @Override
@@ -380,9 +847,17 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      *
      * @param showHeader
      */
-    public void setShowHeader(boolean showHeader) {
+    public void setShowHeader(final boolean showHeader) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                setShowHeader(showHeader);
+            }
+        })) {
+            return;
+        }
         this.showHeader = showHeader;
-        setDataSource(dataList);
+        resetDataSource();
     }
 
     //============================Footer=========================
@@ -459,9 +934,17 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      *
      * @param showFooter
      */
-    public void setShowFooter(boolean showFooter) {
+    public void setShowFooter(final boolean showFooter) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                setShowFooter(showFooter);
+            }
+        })) {
+            return;
+        }
         this.showFooter = showFooter;
-        setDataSource(dataList);
+        resetDataSource();
     }
 
     //============================More=========================
@@ -564,9 +1047,17 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      *
      * @param showLoading
      */
-    public void setShowLoading(boolean showLoading) {
+    public void setShowLoading(final boolean showLoading) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                setShowLoading(showLoading);
+            }
+        })) {
+            return;
+        }
         this.showLoading = showLoading;
-        setDataSource(dataList);
+        resetDataSource();
     }
 
     /**
@@ -676,6 +1167,16 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         return child.findViewById(ID_SWIPE_MENU_GROUP);
     }
 
+    /**
+     * 找到侧滑item+菜单整体容器（{@link #SWIPE_ANIMATION_PROPERTY}）
+     *
+     * @param child
+     * @return
+     */
+    public View findSwipeContentLayout(View child) {
+        return child.findViewById(ID_SWIPE_CONTENT_GROUP);
+    }
+
     /**
      * 找到MenuView
      *
@@ -694,6 +1195,9 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return
      */
     protected View getItemSwipeMenuView(ViewGroup parent, int viewType) {
+        if (swipeAnimationMode == SWIPE_ANIMATION_PROPERTY) {
+            return getItemSwipeContentView(parent, viewType);
+        }
         FrameLayout swipeLayout = new FrameLayout(getContext());
         swipeLayout.setLayoutParams(new FrameLayout.LayoutParams(MATCH_PARENT, WRAP_CONTENT));
         //Menu
@@ -705,9 +1209,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         FrameLayout.LayoutParams menuParams = new FrameLayout.LayoutParams(WRAP_CONTENT, MATCH_PARENT);
         menuParams.gravity = Gravity.RIGHT;
         menuLayout.addView(menuView, menuParams);
-        int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-        menuView.measure(measureSpec, measureSpec);
-        menuLayout.setTranslationX(menuView.getMeasuredWidth());
+        menuLayout.setTranslationX(getSwipeMenuWidth(viewType, menuView));
         swipeLayout.addView(menuLayout);
         //RecyclerView itemView
         FrameLayout leftLayout = new FrameLayout(getContext());
@@ -719,25 +1221,166 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         return swipeLayout;
     }
 
-    @Override
-    public int getItemViewType(int position) {
-        if (isExpansion(position)) {
-            return getExpansion(position).getViewType();
-        }
-        return super.getItemViewType(position);
-    }
-
     /**
-     * 获取Item布局资源
+     * 获取item菜单View（{@link #SWIPE_ANIMATION_PROPERTY}），
+     * item和菜单并排放在一个比父级宽出菜单宽度的容器中，打开/关闭只移动这一个容器
      *
+     * @param parent
+     * @param viewType
      * @return
      */
-    protected abstract int getItemLayoutResId(int viewType);
-
-    /**
-     * 获取Item布局视图
-     *
-     * @param parent   父级
+    protected View getItemSwipeContentView(ViewGroup parent, int viewType) {
+        FrameLayout swipeLayout = new FrameLayout(getContext());
+        swipeLayout.setLayoutParams(new FrameLayout.LayoutParams(MATCH_PARENT, WRAP_CONTENT));
+        View menuView = LayoutInflater.from(getContext()).inflate(getItemSwipeMenuLayoutResId(), null);
+        menuView.setId(ID_SWIPE_MENU);
+        int menuWidth = getSwipeMenuWidth(viewType, menuView);
+        //item + 菜单
+        FrameLayout contentLayout = new FrameLayout(getContext());
+        contentLayout.setId(ID_SWIPE_CONTENT_GROUP);
+        FrameLayout.LayoutParams contentParams = new FrameLayout.LayoutParams(MATCH_PARENT, MATCH_PARENT);
+        contentParams.rightMargin = -menuWidth;
+        contentLayout.setLayoutParams(contentParams);
+        //Menu
+        FrameLayout menuLayout = new FrameLayout(getContext());
+        menuLayout.setId(ID_SWIPE_MENU_GROUP);
+        FrameLayout.LayoutParams menuLayoutParams = new FrameLayout.LayoutParams(WRAP_CONTENT, MATCH_PARENT);
+        menuLayoutParams.gravity = Gravity.RIGHT;
+        menuLayout.setLayoutParams(menuLayoutParams);
+        menuLayout.addView(menuView, new FrameLayout.LayoutParams(WRAP_CONTENT, MATCH_PARENT));
+        contentLayout.addView(menuLayout);
+        //RecyclerView itemView
+        FrameLayout leftLayout = new FrameLayout(getContext());
+        leftLayout.setId(ID_SWIPE_ITEM_GROUP);
+        FrameLayout.LayoutParams leftParams = new FrameLayout.LayoutParams(MATCH_PARENT, MATCH_PARENT);
+        leftParams.rightMargin = menuWidth;
+        leftLayout.setLayoutParams(leftParams);
+        View itemView = LayoutInflater.from(getContext()).inflate(getItemLayoutResId(viewType), leftLayout, false);
+        leftLayout.addView(itemView);
+        contentLayout.addView(leftLayout);
+        swipeLayout.addView(contentLayout);
+        return swipeLayout;
+    }
+
+    /**
+     * 菜单宽度改变时更新整体容器宽度（{@link #SWIPE_ANIMATION_PROPERTY}）
+     *
+     * @param holder    控件容器
+     * @param menuWidth 菜单宽度
+     */
+    private void updateSwipeContentWidth(ViewHolder holder, int menuWidth) {
+        ViewGroup.MarginLayoutParams contentParams = (ViewGroup.MarginLayoutParams) holder.getSwipeContentLayout().getLayoutParams();
+        ViewGroup.MarginLayoutParams leftParams = (ViewGroup.MarginLayoutParams) holder.getSwipeItemLayout().getLayoutParams();
+        if (contentParams.rightMargin != -menuWidth || leftParams.rightMargin != menuWidth) {
+            contentParams.rightMargin = -menuWidth;
+            leftParams.rightMargin = menuWidth;
+            holder.getSwipeContentLayout().requestLayout();
+        }
+    }
+
+    /**
+     * 获取侧滑动画模式
+     *
+     * @return
+     */
+    public int getSwipeAnimationMode() {
+        return swipeAnimationMode;
+    }
+
+    /**
+     * 设置侧滑动画模式，对之后创建的ViewHolder生效，需要在RecyclerView.setAdapter之前调用
+     *
+     * @param swipeAnimationMode {@link #SWIPE_ANIMATION_SPRING} or {@link #SWIPE_ANIMATION_PROPERTY}
+     */
+    public void setSwipeAnimationMode(int swipeAnimationMode) {
+        this.swipeAnimationMode = swipeAnimationMode;
+    }
+
+    /**
+     * 获取菜单宽度，每种视图类型在同一配置（宽度、密度、语言）下只测量一次，
+     * 配置改变由 {@link #onConfigurationChanged(Configuration)} 清除缓存，
+     * 使用普通RecyclerView并自己处理配置改变时需要转发该方法
+     *
+     * @param viewType 视图类型
+     * @param menuView 菜单View，没有缓存时用于测量
+     * @return
+     */
+    public int getSwipeMenuWidth(int viewType, View menuView) {
+        if (menuWidths == null) {
+            menuWidths = new SparseIntArray();
+            setSwipeMenuConfiguration(getContext().getResources().getConfiguration());
+        }
+        int index = menuWidths.indexOfKey(viewType);
+        if (index >= 0) {
+            return menuWidths.valueAt(index);
+        }
+        if (menuView == null) {
+            return 0;
+        }
+        int measureSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        menuView.measure(measureSpec, measureSpec);
+        int width = menuView.getMeasuredWidth();
+        menuWidths.put(viewType, width);
+        return width;
+    }
+
+    /**
+     * 清除菜单宽度缓存
+     */
+    public void invalidateSwipeMenuWidth() {
+        menuWidths = null;
+    }
+
+    /**
+     * 记录菜单宽度缓存对应的配置
+     *
+     * @param configuration 配置
+     * @return 是否和之前的配置不同
+     */
+    private boolean setSwipeMenuConfiguration(Configuration configuration) {
+        Locale locale = ConfigurationCompat.getLocales(configuration).get(0);
+        boolean changed = configuration.screenWidthDp != menuScreenWidthDp
+                || configuration.densityDpi != menuDensityDpi || !ObjectsCompat.equals(locale, menuLocale);
+        menuScreenWidthDp = configuration.screenWidthDp;
+        menuDensityDpi = configuration.densityDpi;
+        menuLocale = locale;
+        return changed;
+    }
+
+    /**
+     * 配置改变，宽度、密度或语言变化时清除菜单宽度缓存并重新绑定侧滑位置
+     *
+     * @param newConfig 新配置
+     */
+    public void onConfigurationChanged(Configuration newConfig) {
+        if (menuWidths != null && !setSwipeMenuConfiguration(newConfig)) {
+            return;
+        }
+        invalidateSwipeMenuWidth();
+        if (isSwipeEnable() && getItemCount() > 0) {
+            notifyItemRangeChanged(0, getItemCount());
+        }
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        if (isExpansion(position)) {
+            return getExpansion(position).getViewType();
+        }
+        return super.getItemViewType(position);
+    }
+
+    /**
+     * 获取Item布局资源
+     *
+     * @return
+     */
+    protected abstract int getItemLayoutResId(int viewType);
+
+    /**
+     * 获取Item布局视图
+     *
+     * @param parent   父级
      * @param viewType 类型
      * @return
      */
@@ -791,13 +1434,40 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     @NonNull
     @Override
     public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        return new ViewHolder(getItemView(parent, viewType));
+        View itemView = getItemView(parent, viewType);
+        ViewHolder holder = new ViewHolder(itemView);
+        holder.setFindCacheEnabled(findCacheEnabled);
+        //点击和焦点监听只设置一次，位置在事件发生时获取
+        holder.setOnItemClickLister(this);
+        holder.setOnItemFocusChangeListener(this);
+        if (isSwipeEnable()) {
+            holder.setSwipeLayout(findSwipeItemLayout(itemView), findSwipeMenuLayout(itemView), findSwipeMenuView(itemView));
+            holder.setSwipeContentLayout(findSwipeContentLayout(itemView));
+        }
+        return holder;
+    }
+
+    /**
+     * 是否缓存ViewHolder.find查找的控件
+     *
+     * @return
+     */
+    public boolean isFindCacheEnabled() {
+        return findCacheEnabled;
+    }
+
+    /**
+     * 设置是否缓存ViewHolder.find查找的控件，对之后创建的ViewHolder生效
+     *
+     * @param findCacheEnabled
+     */
+    public void setFindCacheEnabled(boolean findCacheEnabled) {
+        this.findCacheEnabled = findCacheEnabled;
     }
 
     @Override
     public void onBindViewHolder(@NonNull RecyclerView.ViewHolder vh, int position) {
         ViewHolder holder = (ViewHolder) vh;
-        addItemClick(holder, position);
         int viewType = getItemViewType(position);
         if (viewType == SwipeExpansion.HEADER) {
             onHeaderBindViewHolder(holder, headerArgs);
@@ -814,17 +1484,6 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         }
     }
 
-    /**
-     * 添加item点击事件
-     *
-     * @param holder   控件容器
-     * @param position 位置
-     */
-    private void addItemClick(ViewHolder holder, int position) {
-        holder.setOnItemClickLister(this);
-        holder.setOnItemFocusChangeListener(this);
-    }
-
     @Override
     public void onItemClick(View v, int position) {
         if (isExpansion(position)) {
@@ -841,8 +1500,8 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     @Override
     public void onItemFocusChange(View v, int position, boolean hasFocus) {
         if (isExpansion(position)) {
-            if (onExpansionItemClickListener != null) {
-                onExpansionItemClickListener.onExpansionItemClick(this, v, position);
+            if (onExpansionItemFocusChangeListener != null) {
+                onExpansionItemFocusChangeListener.onExpansionItemFocusChange(this, v, position, hasFocus);
             }
         } else {
             if (onItemFocusChangeListener != null) {
@@ -888,17 +1547,9 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param position 位置
      */
     protected void onSwipeBindViewHolder(ViewHolder holder, int position) {
-        if (getSwipeItem(position).isSwipe()) {
-            SwipeItemTouch itemTouch = items.get(position).getSwipeItemTouch();
-            if (itemTouch == null) {
-                itemTouch = new SwipeItemTouch(this);
-                itemTouch.setSwipeDuration(swipeDuration);
-                itemTouch.setSwipeRatio(swipeRatio);
-                itemTouch.setSwipeThreshold(swipeThreshold);
-                items.get(position).setSwipeItemTouch(itemTouch);
-            }
-            itemTouch.initialize(holder, position);
-            holder.itemView.setOnTouchListener(itemTouch);
+        SwipeItem<T> item = getSwipeItem(position);
+        if (item.isSwipe()) {
+            applySwipeMenu(holder, item.isOpen(), false);
         }
     }
 
@@ -910,38 +1561,91 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param animator 是否使用动画
      */
     public void setSwipeMenu(int position, boolean open, boolean animator) {
-        getSwipeItem(position).setOpen(open);
-        if (recyclerView == null) {
-            return;
+        setSwipeItemOpen(position, open);
+        for (int i = 0; i < attachedRecyclerViews.size(); i++) {
+            RecyclerView.ViewHolder holder = attachedRecyclerViews.get(i).findViewHolderForAdapterPosition(position);
+            if (holder instanceof ViewHolder) {
+                applySwipeMenu((ViewHolder) holder, open, animator);
+            }
         }
-        RecyclerView.ViewHolder holder = recyclerView.findViewHolderForAdapterPosition(position);
-        if (holder == null) {
+    }
+
+    /**
+     * 设置ViewHolder侧滑菜单位置（只处理视图）
+     *
+     * @param holder   控件容器
+     * @param open     是否打开
+     * @param animator 是否使用动画
+     */
+    protected void applySwipeMenu(ViewHolder holder, boolean open, boolean animator) {
+        applySwipeMenu(holder, open, animator, swipeDuration, 0);
+    }
+
+    /**
+     * 设置ViewHolder侧滑菜单位置（只处理视图）
+     *
+     * @param holder   控件容器
+     * @param open     是否打开
+     * @param animator 是否使用动画
+     * @param duration 动画时间
+     * @param velocity 开始速度（px/s）
+     */
+    protected void applySwipeMenu(ViewHolder holder, boolean open, boolean animator, int duration, float velocity) {
+        View itemLayout = holder.getSwipeItemLayout();
+        View menuLayout = holder.getSwipeMenuLayout();
+        if (itemLayout == null || menuLayout == null) {
             return;
         }
-        View itemView = holder.itemView;
-        View itemLayout = findSwipeItemLayout(holder.itemView);
-        View menuLayout = findSwipeMenuLayout(holder.itemView);
-        View menuView = findSwipeMenuView(holder.itemView);
-        int menuWidth = menuView == null ? 0 : menuView.getMeasuredWidth();
-        SwipeItem item = getSwipeItem(position);
-        boolean isOpen = item.isOpen();
-        if (isOpen) {
+        int menuWidth = getSwipeMenuWidth(holder.getItemViewType(), holder.getSwipeMenuView());
+        float end = open ? -menuWidth : 0;
+        View contentLayout = holder.getSwipeContentLayout();
+        if (contentLayout != null) {
+            updateSwipeContentWidth(holder, menuWidth);
+            boolean cancelled = holder.cancelSwipeAnimator();
             if (animator) {
-                item.getItemAnimator().start(itemView, itemLayout, -menuWidth);
-                item.getMenuAnimator().start(itemView, menuLayout, 0);
+                final ViewHolder swipeHolder = holder;
+                swipeHolder.setSwipeContentAnimating(true);
+                contentLayout.animate().translationX(end).setDuration(duration).setInterpolator(swipeInterpolator).withEndAction(new Runnable() {
+                    @Override
+                    public void run() {
+                        swipeHolder.setSwipeContentAnimating(false);
+                        swipeHolder.itemView.setLongClickable(true);
+                    }
+                }).start();
             } else {
-                itemLayout.setTranslationX(-menuWidth);
-                menuLayout.setTranslationX(0);
+                contentLayout.setTranslationX(end);
+                //被取消的动画不会执行结束回调
+                if (cancelled) {
+                    holder.itemView.setLongClickable(true);
+                }
             }
+            return;
+        }
+        if (animator) {
+            obtainSwipeAnimator(holder, duration).start(holder.itemView, itemLayout, menuLayout, menuWidth, end, velocity);
         } else {
-            if (animator) {
-                item.getItemAnimator().start(itemView, itemLayout, 0);
-                item.getMenuAnimator().start(itemView, menuLayout, menuWidth);
-            } else {
-                itemLayout.setTranslationX(0);
-                menuLayout.setTranslationX(menuWidth);
+            if (holder.cancelSwipeAnimator()) {
+                holder.itemView.setLongClickable(true);
             }
+            itemLayout.setTranslationX(end);
+            menuLayout.setTranslationX(end + menuWidth);
+        }
+    }
+
+    /**
+     * 设置侧滑菜单打开状态（不处理视图），同步打开位置索引
+     *
+     * @param position 位置
+     * @param open     是否打开
+     */
+    public void setSwipeItemOpen(int position, boolean open) {
+        SwipeItem<T> item = getSwipeItem(position);
+        //占位Item共用，不能打开
+        if (item == placeholderItem) {
+            return;
         }
+        item.setOpen(open);
+        openIndex.set(position, open);
     }
 
     /**
@@ -980,14 +1684,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return
      */
     public boolean isHasOpenSwipe() {
-        List<SwipeItem<T>> items = getSwipeItems();
-        int size = items == null ? 0 : items.size();
-        for (int i = 0; i < size; i++) {
-            if (getSwipeItem(i).isOpen()) {
-                return true;
-            }
-        }
-        return false;
+        return getOpenIndex().size() > 0;
     }
 
     /**
@@ -996,12 +1693,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return
      */
     public int findOpenSwipeItemPosition() {
-        for (int i = 0; i < getSwipeItemCount(); i++) {
-            if (getSwipeItem(i).isOpen()) {
-                return i;
-            }
-        }
-        return -1;
+        return getOpenIndex().first();
     }
 
     /**
@@ -1026,11 +1718,13 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param animator 是否使用动画
      */
     public void closeSwipe(boolean animator) {
-        for (int i = 0; i < getSwipeItemCount(); i++) {
-            SwipeItem<T> item = getSwipeItem(i);
-            if (item.isOpen()) {
-                closeSwipe(i, animator);
-            }
+        SwipeOpenIndex index = getOpenIndex();
+        if (index.size() == 0) {
+            return;
+        }
+        int[] positions = index.toArray();
+        for (int position : positions) {
+            closeSwipe(position, animator);
         }
     }
 
@@ -1064,16 +1758,43 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
 
     @Override
     public long getItemId(int position) {
-        return position;
+        if (itemIdProvider == null) {
+            return position;
+        }
+        SwipeItem<T> item = getSwipeItem(position);
+        if (item.getExpansion() != null) {
+            return item.getExpansion().getItemId();
+        }
+        //数据已释放的占位Item没有稳定ID
+        if (item.getData() == null) {
+            return RecyclerView.NO_ID;
+        }
+        return itemIdProvider.getItemId(item.getData());
+    }
+
+    /**
+     * 获取稳定ID提供者
+     *
+     * @return
+     */
+    public ItemIdProvider<T> getItemIdProvider() {
+        return itemIdProvider;
+    }
+
+    /**
+     * 设置稳定ID提供者，同时开启{@link #setHasStableIds(boolean)}，
+     * 需要在RecyclerView.setAdapter之前调用
+     *
+     * @param itemIdProvider
+     */
+    public void setItemIdProvider(ItemIdProvider<T> itemIdProvider) {
+        this.itemIdProvider = itemIdProvider;
+        setHasStableIds(itemIdProvider != null);
     }
 
     @Override
     public int getItemCount() {
-        int itemCount = items == null ? 0 : items.size();
-        if (placeholder != null) {
-            placeholder.setVisibility(itemCount == 0 ? View.VISIBLE : View.GONE);
-        }
-        return itemCount;
+        return items == null ? 0 : items.size();
     }
 
     /**
@@ -1114,18 +1835,95 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param sources
      */
     public void setDataSource(List<T> sources, boolean notify) {
-        dataList = sources;
-        items = new ArrayList<>();
+        //新数据源覆盖之前排队的修改
+        pendingEdits = null;
+        if (notify && itemDiffCallback != null && items != null) {
+            submitDataSource(sources);
+            return;
+        }
+        diffGeneration++;
+        diffPending = false;
+        pendingSources = null;
+        itemsModCount++;
+        loadingMore = false;
+        loadingPrevious = false;
+        loadingPreviousSettled = false;
+        dragFromPosition = dragToPosition = RecyclerView.NO_POSITION;
         expansions = new ArrayList<>();
+        items = createSwipeItems(sources, expansions);
+        openIndex.clear();
+        if (notify) {
+            notifyDataSetChanged();
+        } else {
+            placeholderObserver.update();
+        }
+    }
+
+    /**
+     * 使用当前普通数据重新创建复合数据
+     */
+    private void resetDataSource() {
+        setDataSource(new ArrayList<>(dataList));
+    }
+
+    /**
+     * 有未分发的差异比较时，修改排队到比较结果分发之后按调用顺序执行，
+     * 不在主线程同步比较差异
+     *
+     * @param edit 修改
+     * @return 是否已排队
+     */
+    private boolean queueEdit(Runnable edit) {
+        if (!diffPending) {
+            return false;
+        }
+        if (pendingEdits == null) {
+            pendingEdits = new ArrayList<>();
+        }
+        pendingEdits.add(edit);
+        return true;
+    }
+
+    /**
+     * 执行排队的修改，修改中再次开始差异比较时，剩余的修改继续排队
+     */
+    private void runPendingEdits() {
+        List<Runnable> edits = pendingEdits;
+        pendingEdits = null;
+        if (edits == null) {
+            return;
+        }
+        for (int i = 0; i < edits.size(); i++) {
+            edits.get(i).run();
+        }
+    }
+
+    /**
+     * 修改复合数据之前调用，先提交未提交的拖拽移动，
+     * 差异比较期间的修改会使比较结果失效
+     */
+    private void modifySwipeItems() {
+        commitDragMove();
+        itemsModCount++;
+    }
+
+    /**
+     * 创建复合数据（普通+[Header/Footer/Loading]）
+     *
+     * @param sources    数据源
+     * @param expansions 扩展数据集合
+     * @return
+     */
+    private List<SwipeItem<T>> createSwipeItems(List<T> sources, List<SwipeExpansion> expansions) {
+        int size = sources == null ? 0 : sources.size();
+        List<SwipeItem<T>> items = onCreateSwipeItems(size + 3);
         if (isHasHeader() && isShowHeader()) {
             SwipeExpansion expansion = new SwipeExpansion(SwipeExpansion.HEADER);
             expansions.add(expansion);
             items.add(new SwipeItem(expansion));
         }
-        int size = sources == null ? 0 : sources.size();
         for (int index = 0; index < size; index++) {
-            items.add(new SwipeItem(sources.get(index), isSwipeEnable(), createSwipeItemAnimator(), createSwipeItemAnimator()));
-            lastPosition = index + 1;
+            items.add(new SwipeItem(sources.get(index), isSwipeEnable()));
         }
         if (isHasFooter() && isShowFooter()) {
             SwipeExpansion expansion = new SwipeExpansion(SwipeExpansion.FOOTER);
@@ -1137,9 +1935,142 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
             expansions.add(expansion);
             items.add(new SwipeItem(expansion));
         }
-        if (notify) {
-            notifyDataSetChanged();
+        return items;
+    }
+
+    /**
+     * 创建混合数据集合，数据少时使用环形数组，数据多时使用分块列表，
+     * 子类可以重写使用其他实现
+     *
+     * @param capacity 初始个数
+     * @return
+     */
+    protected List<SwipeItem<T>> onCreateSwipeItems(int capacity) {
+        if (capacity > CHUNKED_ITEMS_THRESHOLD) {
+            return new SwipeChunkedList<>();
+        }
+        return new SwipeRingList<>(capacity);
+    }
+
+    /**
+     * 数据增加到分块列表阈值时从环形数组切换为分块列表
+     *
+     * @param capacity 增加之后的个数
+     */
+    private void ensureSwipeItems(int capacity) {
+        if (items instanceof SwipeRingList && capacity > CHUNKED_ITEMS_THRESHOLD) {
+            List<SwipeItem<T>> list = onCreateSwipeItems(capacity);
+            if (!(list instanceof SwipeRingList)) {
+                list.addAll(items);
+                items = list;
+            }
+        }
+    }
+
+    /**
+     * 获取数据差异比较回调
+     *
+     * @return
+     */
+    public ItemDiffCallback<T> getItemDiffCallback() {
+        return itemDiffCallback;
+    }
+
+    /**
+     * 设置数据差异比较回调，设置之后{@link #setDataSource(List)}在后台线程比较差异，
+     * 只通知插入、删除、移动、改变的Item，不再调用notifyDataSetChanged()，
+     * 比较期间addItem、removeItem等修改排队到比较结果分发之后执行，
+     * {@link #getItems()}读写的是比较中的数据源
+     *
+     * @param itemDiffCallback
+     */
+    public void setItemDiffCallback(ItemDiffCallback<T> itemDiffCallback) {
+        this.itemDiffCallback = itemDiffCallback;
+    }
+
+    /**
+     * 后台比较差异后提交数据源，过期的比较结果直接丢弃
+     *
+     * @param sources 数据源
+     */
+    private void submitDataSource(List<T> sources) {
+        commitDragMove();
+        final int generation = ++diffGeneration;
+        final int modCount = itemsModCount;
+        diffPending = true;
+        pendingSources = sources == null ? new ArrayList<T>() : new ArrayList<>(sources);
+        final List<SwipeItem<T>> oldItems = new ArrayList<>(items);
+        final List<SwipeExpansion> newExpansions = new ArrayList<>();
+        final List<SwipeItem<T>> newItems = createSwipeItems(pendingSources, newExpansions);
+        final SwipeItemDiffCallback<T> callback = new SwipeItemDiffCallback<>(oldItems, newItems, itemDiffCallback);
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
         }
+        getDiffExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                if (generation != diffGeneration) {
+                    return;
+                }
+                final DiffUtil.DiffResult result = DiffUtil.calculateDiff(callback);
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation != diffGeneration) {
+                            return;
+                        }
+                        if (modCount != itemsModCount) {
+                            //比较期间数据被修改，差异结果已不可用，后台重新比较，排队的修改继续等待
+                            submitDataSource(pendingSources);
+                            return;
+                        }
+                        diffPending = false;
+                        pendingSources = null;
+                        dispatchDataSource(newItems, newExpansions, result);
+                        runPendingEdits();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * @return 差异比较线程，没有则创建
+     */
+    private static ExecutorService getDiffExecutor() {
+        if (diffExecutor == null) {
+            diffExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "SwipeRecyclerAdapter-diff");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return diffExecutor;
+    }
+
+    /**
+     * 主线程分发差异比较结果，比较基于当前的复合数据
+     *
+     * @param newItems      新复合数据
+     * @param newExpansions 新扩展数据
+     * @param result        比较结果
+     */
+    private void dispatchDataSource(List<SwipeItem<T>> newItems, List<SwipeExpansion> newExpansions, DiffUtil.DiffResult result) {
+        SwipeOpenIndex index = getOpenIndex();
+        for (int i = 0; i < index.size(); i++) {
+            int position = result.convertOldPositionToNew(index.get(i));
+            if (position != DiffUtil.DiffResult.NO_POSITION) {
+                newItems.get(position).setOpen(true);
+            }
+        }
+        dragFromPosition = dragToPosition = RecyclerView.NO_POSITION;
+        itemsModCount++;
+        expansions = newExpansions;
+        items = newItems;
+        result.dispatchUpdatesTo(this);
     }
 
     /**
@@ -1154,14 +2085,47 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     }
 
     /**
+     * 获取ViewHolder的侧滑动画，没有则创建，
+     * 动画跟随可见的ViewHolder复用，不再随数据条数增长
+     *
+     * @param holder   控件容器
+     * @param duration 动画时间
+     * @return
+     */
+    protected SwipeItemAnimator obtainSwipeAnimator(ViewHolder holder, int duration) {
+        SwipeItemAnimator animator = holder.getSwipeAnimator();
+        if (animator == null) {
+            animator = createSwipeItemAnimator();
+            holder.setSwipeAnimator(animator);
+        }
+        animator.setDuration(duration);
+        return animator;
+    }
+
+    @Override
+    public void onViewRecycled(@NonNull RecyclerView.ViewHolder holder) {
+        super.onViewRecycled(holder);
+        if (holder instanceof ViewHolder && ((ViewHolder) holder).cancelSwipeAnimator()) {
+            holder.itemView.setLongClickable(true);
+        }
+    }
+
+    /**
+     * 获取组合数据，有未提交的拖拽移动时先提交，返回的顺序和列表显示一致
+     *
      * @return 组合的复杂数据源（普通+[Header/Footer/Loading]）
      */
     public List<SwipeItem<T>> getSwipeItems() {
+        commitDragMove();
         return items;
     }
 
     /**
-     * @return 组合的复杂数据源（普通+[Header/Footer/Loading]）
+     * 普通数据，直接读写适配器数据，
+     * 通过返回的集合增删改（add/remove/set）都不会通知列表，修改后需要调用notify方法，
+     * 需要自动通知时使用{@link #addItem(Object)}、{@link #removeItem(int)}等方法
+     *
+     * @return 普通数据
      */
     public List<T> getItems() {
         return dataList;
@@ -1173,7 +2137,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
     public List<T> findItems() {
         List<T> list = new ArrayList<>();
         for (int i = 0; i < items.size(); i++) {
-            SwipeItem<T> item = items.get(i);
+            SwipeItem<T> item = getSwipeItem(i);
             T data = item.getData();
             if (data != null) {
                 list.add(data);
@@ -1191,10 +2155,10 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
 
     /**
      * @param position
-     * @return 是否是普通Item
+     * @return 是否是普通Item（包括数据已释放的占位Item）
      */
     public boolean isData(int position) {
-        return items.get(position).getData() != null;
+        return getSwipeItem(position).getExpansion() == null;
     }
 
     /**
@@ -1202,7 +2166,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return Item数据
      */
     public T getItem(int position) {
-        return items.get(position).getData();
+        return getSwipeItem(position).getData();
     }
 
     /**
@@ -1212,7 +2176,25 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return
      */
     public SwipeItem<T> getSwipeItem(int position) {
-        return items.get(position);
+        return items.get(findDragPosition(position));
+    }
+
+    /**
+     * 拖拽中的位置转换为混合数据位置
+     *
+     * @param position 位置
+     * @return
+     */
+    protected int findDragPosition(int position) {
+        int from = dragFromPosition;
+        int to = dragToPosition;
+        if (from == to || position < Math.min(from, to) || position > Math.max(from, to)) {
+            return position;
+        }
+        if (position == to) {
+            return from;
+        }
+        return from < to ? position + 1 : position - 1;
     }
 
     /**
@@ -1220,7 +2202,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return 是否是扩展Item(Header / Footer / More)
      */
     public boolean isExpansion(int position) {
-        return items.get(position).getExpansion() != null;
+        return getSwipeItem(position).getExpansion() != null;
     }
 
     /**
@@ -1228,7 +2210,7 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @return 扩展Item
      */
     public SwipeExpansion getExpansion(int position) {
-        return items.get(position).getExpansion();
+        return getSwipeItem(position).getExpansion();
     }
 
     /**
@@ -1244,18 +2226,23 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      *
      * @param item
      */
-    public void addItem(T item) {
-        if (dataList == null) {
-            dataList = new ArrayList<>();
-            lastPosition = 0;
+    public void addItem(final T item) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                addItem(item);
+            }
+        })) {
+            return;
         }
         if (items == null) {
-            items = new ArrayList<>();
+            addFirst(item);
+            return;
         }
-        dataList.add(item);
-        items.add(lastPosition, new SwipeItem(item, isSwipeEnable(), false, createSwipeItemAnimator(), createSwipeItemAnimator()));
-        lastPosition = dataList.size();
-        notifyItemInserted(lastPosition);
+        modifySwipeItems();
+        int position = findDataEndPosition();
+        items.add(position, new SwipeItem(item, isSwipeEnable(), false));
+        notifyItemInserted(position);
     }
 
     /**
@@ -1264,16 +2251,21 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param position 位置
      * @param item     数据item
      */
-    public void addItem(int position, T item) {
-        if (dataList == null) {
-            dataList = new ArrayList<>();
+    public void addItem(final int position, final T item) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                addItem(position, item);
+            }
+        })) {
+            return;
         }
         if (items == null) {
-            items = new ArrayList<>();
+            addFirst(item);
+            return;
         }
-        dataList.add(position, item);
-        items.add(position, new SwipeItem(item, isSwipeEnable(), false, createSwipeItemAnimator(), createSwipeItemAnimator()));
-        lastPosition = dataList.size();
+        modifySwipeItems();
+        items.add(position, new SwipeItem(item, isSwipeEnable(), false));
         notifyItemInserted(position);
     }
 
@@ -1282,17 +2274,24 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      *
      * @param item
      */
-    public void addFirst(T item) {
-        if (dataList == null) {
-            dataList = new ArrayList<>();
+    public void addFirst(final T item) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                addFirst(item);
+            }
+        })) {
+            return;
         }
         if (items == null) {
-            items = new ArrayList<>();
+            List<T> sources = new ArrayList<>();
+            sources.add(item);
+            setDataSource(sources);
+            return;
         }
-        dataList.add(0, item);
-        items.add(0, new SwipeItem(item, isSwipeEnable(), false, createSwipeItemAnimator(), createSwipeItemAnimator()));
-        int position = isHasHeader() && isShowHeader() ? 1 : 0;
-        lastPosition = dataList.size();
+        modifySwipeItems();
+        int position = findDataStartPosition();
+        items.add(position, new SwipeItem(item, isSwipeEnable(), false));
         notifyItemInserted(position);
     }
 
@@ -1321,6 +2320,58 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         }
     }
 
+    /**
+     * 在头部之后添加多个Item，第一个可见Item保持在原来的位置
+     *
+     * @param sources 来源
+     */
+    public void prependItems(List<T> sources) {
+        int count = sources == null ? 0 : sources.size();
+        if (count == 0) {
+            return;
+        }
+        final List<T> edits = new ArrayList<>(sources);
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                prependItems(edits);
+            }
+        })) {
+            return;
+        }
+        if (items == null) {
+            setDataSource(new ArrayList<>(sources));
+            return;
+        }
+        modifySwipeItems();
+        int positionStart = findDataStartPosition();
+        //记录第一个可见Item和偏移
+        LinearLayoutManager layoutManager = null;
+        int anchorPosition = RecyclerView.NO_POSITION;
+        int anchorOffset = 0;
+        RecyclerView parent = findRecyclerView();
+        if (parent != null && parent.getLayoutManager() instanceof LinearLayoutManager) {
+            layoutManager = (LinearLayoutManager) parent.getLayoutManager();
+            anchorPosition = Math.max(layoutManager.findFirstVisibleItemPosition(), positionStart);
+            View anchor = layoutManager.findViewByPosition(anchorPosition);
+            if (anchor == null) {
+                anchorPosition = RecyclerView.NO_POSITION;
+            } else {
+                anchorOffset = layoutManager.getDecoratedTop(anchor) - layoutManager.getPaddingTop();
+            }
+        }
+        List<SwipeItem<T>> inserts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inserts.add(new SwipeItem(sources.get(i), isSwipeEnable()));
+        }
+        ensureSwipeItems(items.size() + count);
+        items.addAll(positionStart, inserts);
+        notifyItemRangeInserted(positionStart, count);
+        if (anchorPosition != RecyclerView.NO_POSITION) {
+            layoutManager.scrollToPositionWithOffset(anchorPosition + count, anchorOffset);
+        }
+    }
+
     /**
      * 添加多个Item
      *
@@ -1328,12 +2379,107 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      */
     public void addItems(List<T> sources) {
         int count = sources == null ? 0 : sources.size();
+        if (count == 0) {
+            return;
+        }
+        final List<T> edits = new ArrayList<>(sources);
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                addItems(edits);
+            }
+        })) {
+            return;
+        }
+        if (items == null) {
+            setDataSource(new ArrayList<>(sources));
+            return;
+        }
+        modifySwipeItems();
+        int positionStart = findDataEndPosition();
+        List<SwipeItem<T>> inserts = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            dataList.add(sources.get(i));
+            inserts.add(new SwipeItem(sources.get(i), isSwipeEnable()));
+        }
+        ensureSwipeItems(items.size() + count);
+        items.addAll(positionStart, inserts);
+        notifyItemRangeInserted(positionStart, count);
+    }
+
+    /**
+     * 普通数据区间设置为占位Item（数据为null，不能侧滑），位置不变，
+     * 所有占位位置共用一个Item，使用分块列表时只保存个数，内存不随占位个数增长，
+     * 之后通过{@link #getItems()}设置数据时恢复为普通Item
+     *
+     * @param index 普通数据开始位置
+     * @param count 个数
+     */
+    public void setPlaceholderItems(final int index, final int count) {
+        if (count <= 0) {
+            return;
         }
-        if (count > 0) {
-            setDataSource(dataList, true);
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                setPlaceholderItems(index, count);
+            }
+        })) {
+            return;
+        }
+        if (items == null) {
+            return;
+        }
+        modifySwipeItems();
+        if (placeholderItem == null) {
+            placeholderItem = new SwipeItem<T>(null, false);
+        }
+        int positionStart = findDataStartPosition() + index;
+        for (int position = positionStart; position < positionStart + count; position++) {
+            if (items.get(position).isOpen()) {
+                openIndex.set(position, false);
+            }
+        }
+        if (items instanceof SwipeRingList) {
+            items = new SwipeChunkedList<>(items);
+        }
+        if (items instanceof SwipeChunkedList) {
+            ((SwipeChunkedList<SwipeItem<T>>) items).fill(positionStart, positionStart + count, placeholderItem);
+        } else {
+            for (int position = positionStart; position < positionStart + count; position++) {
+                items.set(position, placeholderItem);
+            }
+        }
+        notifyItemRangeChanged(positionStart, count);
+    }
+
+    /**
+     * 找到普通数据开始位置（Header之后）
+     *
+     * @return
+     */
+    protected int findDataStartPosition() {
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+        SwipeExpansion expansion = getSwipeItem(0).getExpansion();
+        return expansion != null && expansion.getViewType() == SwipeExpansion.HEADER ? 1 : 0;
+    }
+
+    /**
+     * 找到普通数据结束位置（Footer/Loading之前）
+     *
+     * @return
+     */
+    protected int findDataEndPosition() {
+        int position = items == null ? 0 : items.size();
+        while (position > 0) {
+            SwipeExpansion expansion = getSwipeItem(position - 1).getExpansion();
+            if (expansion == null || expansion.getViewType() == SwipeExpansion.HEADER) {
+                break;
+            }
+            position--;
         }
+        return position;
     }
 
     /**
@@ -1341,11 +2487,22 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      *
      * @param position 位置
      */
-    public void removeItem(int position) {
-        items.get(position).setOpen(false);
-        items.remove(position);
+    public void removeItem(final int position) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                removeItem(position);
+            }
+        })) {
+            return;
+        }
+        modifySwipeItems();
+        setSwipeItemOpen(position, false);
+        SwipeItem<T> item = items.remove(position);
+        if (item.getExpansion() != null) {
+            expansions.remove(item.getExpansion());
+        }
         notifyItemRemoved(position);
-        notifySwipeItemChanged();
     }
 
     /**
@@ -1354,13 +2511,28 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param positionStart 开始位置
      * @param itemCount     个数
      */
-    public void removeItems(int positionStart, int itemCount) {
+    public void removeItems(final int positionStart, final int itemCount) {
+        if (queueEdit(new Runnable() {
+            @Override
+            public void run() {
+                removeItems(positionStart, itemCount);
+            }
+        })) {
+            return;
+        }
+        modifySwipeItems();
         int size = getItemCount();
         if (positionStart < size && (positionStart + itemCount - 1) < size) {
-            items.removeAll(items.subList(positionStart, positionStart + itemCount));
+            List<SwipeItem<T>> removes = items.subList(positionStart, positionStart + itemCount);
+            for (int i = 0; i < removes.size(); i++) {
+                SwipeExpansion expansion = removes.get(i).getExpansion();
+                if (expansion != null) {
+                    expansions.remove(expansion);
+                }
+            }
+            removes.clear();
             notifyItemRangeRemoved(positionStart, itemCount);
         }
-        notifySwipeItemChanged();
     }
 
     /**
@@ -1370,32 +2542,178 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param toPosition   目标位置
      */
     public void swapItem(int fromPosition, int toPosition) {
+        if (fromPosition == toPosition) {
+            return;
+        }
+        moveSwipeItem(fromPosition, toPosition);
+        notifyItemMoved(fromPosition, toPosition);
+    }
+
+    /**
+     * 拖拽移动Item（批量提交模式），只记录开始和目标位置，
+     * 拖拽结束时调用{@link #commitDragMove()}一次性移动数据
+     *
+     * @param fromPosition 开始位置
+     * @param toPosition   目标位置
+     */
+    public void moveDragItem(int fromPosition, int toPosition) {
+        if (fromPosition == toPosition) {
+            return;
+        }
+        itemsModCount++;
+        if (dragFromPosition == RecyclerView.NO_POSITION || fromPosition != dragToPosition) {
+            commitDragMove();
+            dragFromPosition = fromPosition;
+        }
+        dragToPosition = toPosition;
+        notifyItemMoved(fromPosition, toPosition);
+    }
+
+    /**
+     * 是否有未提交的拖拽移动
+     *
+     * @return
+     */
+    public boolean isDragMoving() {
+        return dragFromPosition != RecyclerView.NO_POSITION;
+    }
+
+    /**
+     * 提交拖拽移动，将拖拽位置应用到数据
+     */
+    public void commitDragMove() {
+        int from = dragFromPosition;
+        int to = dragToPosition;
+        dragFromPosition = dragToPosition = RecyclerView.NO_POSITION;
+        if (from != RecyclerView.NO_POSITION && from != to) {
+            moveSwipeItem(from, to);
+        }
+    }
+
+    /**
+     * 移动混合数据，只移动开始和目标位置之间的Item
+     *
+     * @param fromPosition 开始位置
+     * @param toPosition   目标位置
+     */
+    protected void moveSwipeItem(int fromPosition, int toPosition) {
+        modifySwipeItems();
+        SwipeItem<T> item = items.get(fromPosition);
         if (fromPosition < toPosition) {
             for (int i = fromPosition; i < toPosition; i++) {
-                Collections.swap(items, i, i + 1);
+                items.set(i, items.get(i + 1));
             }
         } else {
             for (int i = fromPosition; i > toPosition; i--) {
-                Collections.swap(items, i, i - 1);
+                items.set(i, items.get(i - 1));
             }
         }
-        notifyItemMoved(fromPosition, toPosition);
-        notifySwipeItemChanged();
+        items.set(toPosition, item);
     }
 
     /**
      * 通知数据item改变
+     *
+     * @deprecated 普通数据由{@link #getItems()}直接读取混合数据，不再需要重新创建，调用无效
      */
+    @Deprecated
     public void notifySwipeItemChanged() {
-        dataList = new ArrayList<>();
-        for (int i = 0; i < getSwipeItemCount(); i++) {
-            SwipeItem<T> item = getSwipeItem(i);
-            T data = item.getData();
-            if (data != null) {
-                dataList.add(data);
+
+    }
+
+    /**
+     * 普通数据视图，直接读写混合数据集合，
+     * 增删Item时不需要重新创建，通过视图增删改都不通知列表，
+     * 差异比较期间读写比较中的数据源，比较结果分发时重新比较
+     */
+    private class DataList extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            if (diffPending) {
+                return pendingSources.get(index);
+            }
+            return getSwipeItem(findDataStartPosition() + index).getData();
+        }
+
+        @Override
+        public T set(int index, T element) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            if (diffPending) {
+                itemsModCount++;
+                return pendingSources.set(index, element);
+            }
+            modifySwipeItems();
+            int position = findDataStartPosition() + index;
+            SwipeItem<T> item = items.get(position);
+            //共用的占位Item替换为普通Item
+            if (item == placeholderItem) {
+                items.set(position, new SwipeItem(element, isSwipeEnable(), false));
+                return null;
             }
+            T previous = item.getData();
+            item.setData(element);
+            return previous;
         }
-        lastPosition = dataList.size();
+
+        @Override
+        public void add(int index, T element) {
+            if (index < 0 || index > size()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            if (diffPending) {
+                itemsModCount++;
+                pendingSources.add(index, element);
+                return;
+            }
+            if (items == null) {
+                setDataSource(new ArrayList<T>(), false);
+            }
+            modifySwipeItems();
+            items.add(findDataStartPosition() + index, new SwipeItem(element, isSwipeEnable(), false));
+        }
+
+        @Override
+        public T remove(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            if (diffPending) {
+                itemsModCount++;
+                return pendingSources.remove(index);
+            }
+            modifySwipeItems();
+            return items.remove(findDataStartPosition() + index).getData();
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex >= toIndex) {
+                return;
+            }
+            if (diffPending) {
+                itemsModCount++;
+                pendingSources.subList(fromIndex, toIndex).clear();
+                return;
+            }
+            modifySwipeItems();
+            int start = findDataStartPosition();
+            items.subList(start + fromIndex, start + toIndex).clear();
+        }
+
+        @Override
+        public int size() {
+            if (diffPending) {
+                return pendingSources.size();
+            }
+            return items == null ? 0 : findDataEndPosition() - findDataStartPosition();
+        }
+
     }
 
     /**
@@ -1414,6 +2732,8 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      */
     public void setPlaceholder(View placeholder) {
         this.placeholder = placeholder;
+        placeholderObserver.reset();
+        placeholderObserver.update();
     }
 
     /**
@@ -1568,6 +2888,47 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
      * @param onAttachFocusChangeListener
      */
 
+    /**
+     * 数据差异比较回调
+     */
+    public interface ItemDiffCallback<T> {
+
+        /**
+         * 是否是同一个数据
+         *
+         * @param oldItem 旧数据
+         * @param newItem 新数据
+         * @return
+         */
+        boolean areItemsTheSame(T oldItem, T newItem);
+
+        /**
+         * 数据内容是否相同
+         *
+         * @param oldItem 旧数据
+         * @param newItem 新数据
+         * @return
+         */
+        boolean areContentsTheSame(T oldItem, T newItem);
+
+    }
+
+    /**
+     * 稳定ID提供者
+     */
+    public interface ItemIdProvider<T> {
+
+        /**
+         * 根据数据获取稳定ID，不能与{@link SwipeExpansion#getItemId()}保留值重复，
+         * 数据为null的占位Item不会调用
+         *
+         * @param item 数据
+         * @return
+         */
+        long getItemId(T item);
+
+    }
+
     /**
      * 加载更多监听
      */
@@ -1603,6 +2964,41 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         this.onLoadingListener = onLoadingListener;
     }
 
+    /**
+     * 加载上一页监听
+     */
+    private OnLoadingPreviousListener onLoadingPreviousListener;
+
+    /**
+     * 加载上一页监听
+     */
+    public interface OnLoadingPreviousListener {
+
+        /**
+         * 加载上一页
+         */
+        void onLoadingPrevious();
+
+    }
+
+    /**
+     * 获取加载上一页监听
+     *
+     * @return
+     */
+    public OnLoadingPreviousListener getOnLoadingPreviousListener() {
+        return onLoadingPreviousListener;
+    }
+
+    /**
+     * 设置加载上一页监听，加载完成后调用{@link #prependItems(List)}
+     *
+     * @param onLoadingPreviousListener
+     */
+    public void setOnLoadPreviousListener(OnLoadingPreviousListener onLoadingPreviousListener) {
+        this.onLoadingPreviousListener = onLoadingPreviousListener;
+    }
+
     /**
      * 设置滑动阈值
      *
@@ -1612,6 +3008,15 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         this.swipeThreshold = swipeThreshold;
     }
 
+    /**
+     * 获取滑动阈值
+     *
+     * @return
+     */
+    public int getSwipeThreshold() {
+        return swipeThreshold;
+    }
+
     /**
      * 设置滑动比例
      *
@@ -1621,6 +3026,15 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         this.swipeRatio = swipeRatio;
     }
 
+    /**
+     * 获取滑动比例
+     *
+     * @return
+     */
+    public float getSwipeRatio() {
+        return swipeRatio;
+    }
+
     /**
      * 滑动动画持续时间
      *
@@ -1630,35 +3044,66 @@ public abstract class SwipeRecyclerAdapter<T> extends RecyclerView.Adapter imple
         this.swipeDuration = swipeDuration;
     }
 
+    /**
+     * 获取滑动动画持续时间
+     *
+     * @return
+     */
+    public int getSwipeDuration() {
+        return swipeDuration;
+    }
+
+    /**
+     * 设置快速滑动直接打开/关闭侧滑菜单的速度
+     *
+     * @param swipeFlingVelocity 速度（dp/s）
+     */
+    public void setSwipeFlingVelocity(int swipeFlingVelocity) {
+        this.swipeFlingVelocity = swipeFlingVelocity;
+    }
+
+    /**
+     * 获取快速滑动直接打开/关闭侧滑菜单的速度
+     *
+     * @return 速度（dp/s）
+     */
+    public int getSwipeFlingVelocity() {
+        return swipeFlingVelocity;
+    }
+
     /**
      * 通知延迟时间
      *
      * @param notifyDelay
+     * @deprecated 增删Item时不再延迟重新创建普通数据，设置无效
      */
+    @Deprecated
     public void setNotifyDelay(int notifyDelay) {
-        this.notifyDelay = notifyDelay;
+
     }
 
     /**
      * 释放资源
      */
     public void release() {
-        int size = items == null ? 0 : items.size();
-        for (int i = 0; i < size; i++) {
-            SwipeItem<T> item = items.get(i);
-            SwipeItemAnimator itemAnimator = item.getItemAnimator();
-            if (itemAnimator != null) {
-                itemAnimator.cancel();
-            }
-            SwipeItemAnimator menuAnimator = item.getMenuAnimator();
-            if (menuAnimator != null) {
-                menuAnimator.cancel();
+        for (int index = 0; index < attachedRecyclerViews.size(); index++) {
+            RecyclerView parent = attachedRecyclerViews.get(index);
+            for (int i = 0; i < parent.getChildCount(); i++) {
+                RecyclerView.ViewHolder holder = parent.getChildViewHolder(parent.getChildAt(i));
+                if (holder instanceof ViewHolder && ((ViewHolder) holder).cancelSwipeAnimator()) {
+                    holder.itemView.setLongClickable(true);
+                }
             }
-            item.setItemAnimator(null);
-            item.setMenuAnimator(null);
         }
-        if (defaultItemAnimator != null) {
-            defaultItemAnimator.release();
+        diffGeneration++;
+        diffPending = false;
+        pendingSources = null;
+        pendingEdits = null;
+        if (pager != null) {
+            pager.release();
+        }
+        if (mainHandler != null) {
+            mainHandler.removeCallbacksAndMessages(null);
         }
     }
 
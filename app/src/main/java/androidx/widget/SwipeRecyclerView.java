@@ -1,6 +1,7 @@
 package androidx.widget;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.util.AttributeSet;
 
 import androidx.annotation.NonNull;
@@ -17,6 +18,8 @@ public class SwipeRecyclerView extends RecyclerView {
     private ItemTouchHelper touchHelper;
     //侧滑助手
     private SwipeItemTouchHelperCallback callback;
+    //侧滑菜单触摸
+    private SwipeItemTouch swipeItemTouch;
 
     public SwipeRecyclerView(@NonNull Context context) {
         super(context);
@@ -38,6 +41,17 @@ public class SwipeRecyclerView extends RecyclerView {
         callback = new SwipeItemTouchHelperCallback();
         touchHelper = new ItemTouchHelper(callback);
         touchHelper.attachToRecyclerView(this);
+        swipeItemTouch = new SwipeItemTouch();
+        addOnItemTouchListener(swipeItemTouch);
+    }
+
+    /**
+     * 获取侧滑菜单触摸
+     *
+     * @return
+     */
+    public SwipeItemTouch getSwipeItemTouch() {
+        return swipeItemTouch;
     }
 
     @Override
@@ -94,6 +108,48 @@ public class SwipeRecyclerView extends RecyclerView {
         callback.setDragMoveAuto(dragMoveAuto);
     }
 
+    /**
+     * 是否拖拽结束时批量提交移动
+     *
+     * @return
+     */
+    public boolean isDragMoveBatch() {
+        return callback.isDragMoveBatch();
+    }
+
+    /**
+     * 设置是否拖拽结束时批量提交移动
+     *
+     * @param dragMoveBatch
+     */
+    public void setDragMoveBatch(boolean dragMoveBatch) {
+        if (callback != null) {
+            callback.setDragMoveBatch(dragMoveBatch);
+        }
+    }
+
+    /**
+     * 设置拖拽到边缘时最大滚动速度，小于等于0使用默认滚动
+     *
+     * @param dragScrollMaxSpeed Item/s
+     */
+    public void setDragScrollMaxSpeed(float dragScrollMaxSpeed) {
+        if (callback != null) {
+            callback.setDragScrollMaxSpeed(dragScrollMaxSpeed);
+        }
+    }
+
+    /**
+     * 设置拖拽到边缘时加速到最大速度的时间
+     *
+     * @param dragScrollAccelerationTime ms
+     */
+    public void setDragScrollAccelerationTime(long dragScrollAccelerationTime) {
+        if (callback != null) {
+            callback.setDragScrollAccelerationTime(dragScrollAccelerationTime);
+        }
+    }
+
     /**
      * 否自动处理选择逻辑
      *
@@ -177,6 +233,17 @@ public class SwipeRecyclerView extends RecyclerView {
          */
         void onItemOnItemTouchMove(RecyclerView recyclerView, ViewHolder viewHolder, ViewHolder target);
 
+        /**
+         * 长按拖拽结束，只回调一次
+         *
+         * @param recyclerView
+         * @param fromPosition 拖拽开始位置
+         * @param toPosition   拖拽结束位置
+         */
+        default void onItemTouchMoved(RecyclerView recyclerView, int fromPosition, int toPosition) {
+
+        }
+
     }
 
     /**
@@ -225,6 +292,16 @@ public class SwipeRecyclerView extends RecyclerView {
 
     }
 
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        Adapter adapter = getAdapter();
+        if (adapter != null && adapter instanceof SwipeRecyclerAdapter) {
+            SwipeRecyclerAdapter sra = (SwipeRecyclerAdapter) adapter;
+            sra.onConfigurationChanged(newConfig);
+        }
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         Adapter adapter = getAdapter();
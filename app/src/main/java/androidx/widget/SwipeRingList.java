@@ -0,0 +1,209 @@
+package androidx.widget;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * 环形数组列表，头部和尾部增删都是O(1)，
+ * 中间位置增删只移动离两端较近的一侧
+ */
+public class SwipeRingList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * 元素
+     */
+    private Object[] elements;
+    /**
+     * 第一个元素在数组中的位置
+     */
+    private int head;
+    /**
+     * 元素个数
+     */
+    private int size;
+
+    public SwipeRingList() {
+        this(10);
+    }
+
+    public SwipeRingList(int capacity) {
+        elements = new Object[Math.max(capacity, 4)];
+    }
+
+    public SwipeRingList(Collection<? extends E> collection) {
+        this(collection.size());
+        addAll(collection);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return elementAt(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        E previous = elementAt(index);
+        elements[offset(index)] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        ensureCapacity(size + 1);
+        if (index < size / 2) {
+            head = head == 0 ? elements.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elements[offset(i)] = elements[offset(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[offset(i)] = elements[offset(i - 1)];
+            }
+        }
+        elements[offset(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size, collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        checkPositionIndex(index);
+        Object[] array = collection.toArray();
+        int count = array.length;
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(size + count);
+        if (index < size / 2) {
+            head = (head - count + elements.length) % elements.length;
+            for (int i = 0; i < index; i++) {
+                elements[offset(i)] = elements[offset(i + count)];
+            }
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                elements[offset(i + count)] = elements[offset(i)];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            elements[offset(index + i)] = array[i];
+        }
+        size += count;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        E previous = elementAt(index);
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[offset(i)] = elements[offset(i - 1)];
+            }
+            elements[head] = null;
+            head = head + 1 == elements.length ? 0 : head + 1;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[offset(i)] = elements[offset(i + 1)];
+            }
+            elements[offset(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (fromIndex < size - toIndex) {
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                elements[offset(i + count)] = elements[offset(i)];
+            }
+            for (int i = 0; i < count; i++) {
+                elements[offset(i)] = null;
+            }
+            head = (head + count) % elements.length;
+        } else {
+            for (int i = toIndex; i < size; i++) {
+                elements[offset(i - count)] = elements[offset(i)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[offset(i)] = null;
+            }
+        }
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[offset(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * 扩容，按顺序复制到新数组
+     *
+     * @param capacity 最小容量
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= elements.length) {
+            return;
+        }
+        Object[] array = new Object[Math.max(capacity, elements.length + (elements.length >> 1))];
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[offset(i)];
+        }
+        elements = array;
+        head = 0;
+    }
+
+    /**
+     * @param index 位置
+     * @return 数组中的位置
+     */
+    private int offset(int index) {
+        int offset = head + index;
+        return offset >= elements.length ? offset - elements.length : offset;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) elements[offset(index)];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+}
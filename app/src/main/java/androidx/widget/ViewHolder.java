@@ -1,5 +1,6 @@
 package androidx.widget;
 
+import android.util.SparseArray;
 import android.view.View;
 
 import androidx.annotation.IdRes;
@@ -25,6 +26,38 @@ public class ViewHolder extends RecyclerView.ViewHolder {
      * 位置
      */
     public int itemPosition = -1;
+    /**
+     * 侧滑动画，同时移动item和菜单（开始动画时才创建）
+     */
+    private SwipeItemAnimator swipeAnimator;
+    /**
+     * 侧滑item容器
+     */
+    private View swipeItemLayout;
+    /**
+     * 侧滑菜单容器
+     */
+    private View swipeMenuLayout;
+    /**
+     * 侧滑菜单
+     */
+    private View swipeMenuView;
+    /**
+     * 侧滑item+菜单整体容器，只在属性动画模式下存在
+     */
+    private View swipeContentLayout;
+    /**
+     * 整体容器侧滑动画是否正在运行（属性动画模式）
+     */
+    private boolean swipeContentAnimating;
+    /**
+     * 是否缓存find查找的控件
+     */
+    private boolean findCacheEnabled;
+    /**
+     * find查找的控件缓存
+     */
+    private SparseArray<View> findCache;
 
     public ViewHolder(View itemView) {
         super(itemView);
@@ -92,6 +125,132 @@ public class ViewHolder extends RecyclerView.ViewHolder {
         return itemPosition == -1 ? getAdapterPosition() : itemPosition;
     }
 
+    /**
+     * 获取侧滑动画
+     *
+     * @return
+     */
+    public SwipeItemAnimator getSwipeAnimator() {
+        return swipeAnimator;
+    }
+
+    /**
+     * 设置侧滑动画
+     *
+     * @param swipeAnimator
+     */
+    public void setSwipeAnimator(SwipeItemAnimator swipeAnimator) {
+        this.swipeAnimator = swipeAnimator;
+    }
+
+    /**
+     * 设置侧滑容器，创建时设置一次，绑定和触摸时不再查找
+     *
+     * @param itemLayout item容器
+     * @param menuLayout 菜单容器
+     * @param menuView   菜单
+     */
+    public void setSwipeLayout(View itemLayout, View menuLayout, View menuView) {
+        this.swipeItemLayout = itemLayout;
+        this.swipeMenuLayout = menuLayout;
+        this.swipeMenuView = menuView;
+    }
+
+    /**
+     * 设置侧滑item+菜单整体容器
+     *
+     * @param contentLayout 整体容器
+     */
+    public void setSwipeContentLayout(View contentLayout) {
+        this.swipeContentLayout = contentLayout;
+    }
+
+    /**
+     * 获取侧滑item+菜单整体容器，只在属性动画模式下存在
+     *
+     * @return
+     */
+    public View getSwipeContentLayout() {
+        return swipeContentLayout;
+    }
+
+    /**
+     * 获取侧滑item容器
+     *
+     * @return
+     */
+    public View getSwipeItemLayout() {
+        return swipeItemLayout;
+    }
+
+    /**
+     * 获取侧滑菜单容器
+     *
+     * @return
+     */
+    public View getSwipeMenuLayout() {
+        return swipeMenuLayout;
+    }
+
+    /**
+     * 获取侧滑菜单
+     *
+     * @return
+     */
+    public View getSwipeMenuView() {
+        return swipeMenuView;
+    }
+
+    /**
+     * 是否缓存find查找的控件
+     *
+     * @return
+     */
+    public boolean isFindCacheEnabled() {
+        return findCacheEnabled;
+    }
+
+    /**
+     * 设置是否缓存find查找的控件，
+     * 开启后同一个id只查找一次，布局中动态替换的控件不要开启
+     *
+     * @param findCacheEnabled
+     */
+    public void setFindCacheEnabled(boolean findCacheEnabled) {
+        this.findCacheEnabled = findCacheEnabled;
+        if (!findCacheEnabled) {
+            findCache = null;
+        }
+    }
+
+    /**
+     * 设置整体容器侧滑动画是否正在运行（属性动画模式）
+     *
+     * @param swipeContentAnimating
+     */
+    public void setSwipeContentAnimating(boolean swipeContentAnimating) {
+        this.swipeContentAnimating = swipeContentAnimating;
+    }
+
+    /**
+     * 取消侧滑动画，被取消的动画不会恢复长按，由调用方处理
+     *
+     * @return 是否取消了正在运行的动画
+     */
+    public boolean cancelSwipeAnimator() {
+        boolean running = false;
+        if (swipeAnimator != null && swipeAnimator.isRunning()) {
+            swipeAnimator.cancel();
+            running = true;
+        }
+        if (swipeContentLayout != null) {
+            swipeContentLayout.animate().cancel();
+            running |= swipeContentAnimating;
+            swipeContentAnimating = false;
+        }
+        return running;
+    }
+
     /**
      * 获取控件
      *
@@ -99,7 +258,20 @@ public class ViewHolder extends RecyclerView.ViewHolder {
      * @return
      */
     public <T extends View> T find(@IdRes int id) {
-        return itemView.findViewById(id);
+        if (!findCacheEnabled) {
+            return itemView.findViewById(id);
+        }
+        if (findCache == null) {
+            findCache = new SparseArray<>();
+        }
+        View view = findCache.get(id);
+        if (view == null) {
+            view = itemView.findViewById(id);
+            if (view != null) {
+                findCache.put(id, view);
+            }
+        }
+        return (T) view;
     }
 
     /**
@@ -111,7 +283,7 @@ public class ViewHolder extends RecyclerView.ViewHolder {
      * @return
      */
     public <T extends View> T find(Class<T> cls, @IdRes int id) {
-        return itemView.findViewById(id);
+        return find(id);
     }
 
     /**
@@ -133,26 +305,29 @@ public class ViewHolder extends RecyclerView.ViewHolder {
      */
     public ViewHolder addItemClick(View v) {
         if (v != null) {
-            v.setOnClickListener(new ItemClick(onItemClickLister));
+            if (itemClick == null) {
+                itemClick = new ItemClick();
+            }
+            v.setOnClickListener(itemClick);
         }
         return this;
     }
 
+    /**
+     * Item点击，所有控件共用一个，点击时才获取位置
+     */
+    private ItemClick itemClick;
+
     /**
      * Item点击
      */
     private class ItemClick implements View.OnClickListener {
 
-        private OnItemClickLister onItemClickLister;
-
-        public ItemClick(OnItemClickLister onItemClickLister) {
-            this.onItemClickLister = onItemClickLister;
-        }
-
         @Override
         public void onClick(View v) {
-            if (onItemClickLister != null) {
-                onItemClickLister.onItemClick(v, getItemPosition());
+            int position = getItemPosition();
+            if (onItemClickLister != null && position != RecyclerView.NO_POSITION) {
+                onItemClickLister.onItemClick(v, position);
             }
         }
     }
@@ -189,7 +364,7 @@ public class ViewHolder extends RecyclerView.ViewHolder {
      * @return
      */
     public ViewHolder addItemFocus(@IdRes int id) {
-        addItemFocus(id);
+        addItemFocus(find(id));
         return this;
     }
 
@@ -201,11 +376,19 @@ public class ViewHolder extends RecyclerView.ViewHolder {
      */
     public ViewHolder addItemFocus(View v) {
         if (v != null) {
-            v.setOnFocusChangeListener(new ItemViewFocus(onItemFocusChangeListener));
+            if (itemFocus == null) {
+                itemFocus = new ItemViewFocus();
+            }
+            v.setOnFocusChangeListener(itemFocus);
         }
         return this;
     }
 
+    /**
+     * Item焦点监听，所有控件共用一个，焦点改变时才获取位置
+     */
+    private ItemViewFocus itemFocus;
+
     private OnItemFocusChangeListener onItemFocusChangeListener;
 
     public void setOnItemFocusChangeListener(OnItemFocusChangeListener onItemFocusChangeListener) {
@@ -227,16 +410,11 @@ public class ViewHolder extends RecyclerView.ViewHolder {
 
     private class ItemViewFocus implements View.OnFocusChangeListener {
 
-        private OnItemFocusChangeListener onItemFocusChangeListener;
-
-        public ItemViewFocus(OnItemFocusChangeListener onItemFocusChangeListener) {
-            this.onItemFocusChangeListener = onItemFocusChangeListener;
-        }
-
         @Override
         public void onFocusChange(View v, boolean hasFocus) {
-            if (onItemFocusChangeListener != null) {
-                onItemFocusChangeListener.onItemFocusChange(v, getItemPosition(), hasFocus);
+            int position = getItemPosition();
+            if (onItemFocusChangeListener != null && position != RecyclerView.NO_POSITION) {
+                onItemFocusChangeListener.onItemFocusChange(v, position, hasFocus);
             }
         }
     }
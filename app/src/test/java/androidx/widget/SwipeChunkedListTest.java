@@ -0,0 +1,201 @@
+package androidx.widget;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 分块列表测试
+ */
+public class SwipeChunkedListTest {
+
+    private SwipeChunkedList<Integer> create(int chunkSize, int count) {
+        SwipeChunkedList<Integer> list = new SwipeChunkedList<>(chunkSize);
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void add_headMiddleTail() {
+        SwipeChunkedList<Integer> list = create(4, 10);
+        list.add(0, -1);
+        list.add(5, 100);
+        list.add(list.size(), 10);
+        List<Integer> expected = range(-1, 11);
+        expected.add(5, 100);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void remove_headMiddleTail() {
+        SwipeChunkedList<Integer> list = create(4, 10);
+        assertEquals(Integer.valueOf(0), list.remove(0));
+        assertEquals(Integer.valueOf(5), list.remove(4));
+        assertEquals(Integer.valueOf(9), list.remove(list.size() - 1));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 6, 7, 8), list);
+    }
+
+    @Test
+    public void add_splitChunk() {
+        //同一个位置连续插入，块满后拆分
+        SwipeChunkedList<Integer> list = create(4, 4);
+        List<Integer> expected = range(0, 4);
+        for (int i = 0; i < 10; i++) {
+            list.add(2, 100 + i);
+            expected.add(2, 100 + i);
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void remove_emptyChunk() {
+        //删除整个块的元素后，前后的块位置仍然正确
+        SwipeChunkedList<Integer> list = create(4, 12);
+        for (int i = 0; i < 4; i++) {
+            list.remove(4);
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 8, 9, 10, 11), list);
+        list.add(4, 100);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 100, 8, 9, 10, 11), list);
+        while (!list.isEmpty()) {
+            list.remove(0);
+        }
+        list.add(0);
+        assertEquals(Arrays.asList(0), list);
+    }
+
+    @Test
+    public void addAll_splitChunks() {
+        SwipeChunkedList<Integer> list = create(4, 6);
+        list.addAll(3, range(100, 110));
+        List<Integer> expected = range(0, 6);
+        expected.addAll(3, range(100, 110));
+        assertEquals(expected, list);
+        list.addAll(0, range(-3, 0));
+        expected.addAll(0, range(-3, 0));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeRange_acrossChunks() {
+        SwipeChunkedList<Integer> list = create(4, 20);
+        List<Integer> expected = range(0, 20);
+        //开始和结束在不同的块，中间的块整个删除
+        list.subList(3, 14).clear();
+        expected.subList(3, 14).clear();
+        assertEquals(expected, list);
+        //删除到块的末尾
+        list.subList(0, 3).clear();
+        expected.subList(0, 3).clear();
+        assertEquals(expected, list);
+        list.subList(0, list.size()).clear();
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void compare_withArrayList() {
+        SwipeChunkedList<Integer> list = new SwipeChunkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int index = (i * 7) % (expected.size() + 1);
+            list.add(index, i);
+            expected.add(index, i);
+            if (i % 3 == 0) {
+                int remove = (i * 5) % expected.size();
+                assertEquals(expected.remove(remove), list.remove(remove));
+            }
+            if (i % 50 == 49) {
+                int from = i % expected.size();
+                int to = Math.min(expected.size(), from + 20);
+                list.subList(from, to).clear();
+                expected.subList(from, to).clear();
+            }
+        }
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void fill_mergeAdjacent() {
+        SwipeChunkedList<Integer> list = create(4, 20);
+        List<Integer> expected = range(0, 20);
+        //相邻区间依次填充后合并成一个重复块
+        list.fill(2, 6, -1);
+        list.fill(6, 11, -1);
+        list.fill(0, 2, -1);
+        for (int i = 0; i < 11; i++) {
+            expected.set(i, -1);
+        }
+        assertEquals(expected, list);
+        assertEquals(20, list.size());
+    }
+
+    @Test
+    public void fill_setAddRemove() {
+        SwipeChunkedList<Integer> list = create(4, 20);
+        List<Integer> expected = range(0, 20);
+        list.fill(3, 15, -1);
+        for (int i = 3; i < 15; i++) {
+            expected.set(i, -1);
+        }
+        //重复块中间设置、插入、删除
+        assertEquals(Integer.valueOf(-1), list.set(8, 100));
+        expected.set(8, 100);
+        list.add(5, 200);
+        expected.add(5, 200);
+        list.add(3, 300);
+        expected.add(3, 300);
+        assertEquals(expected.remove(12), list.remove(12));
+        list.subList(10, 14).clear();
+        expected.subList(10, 14).clear();
+        assertEquals(expected, list);
+        //重新加载重复块中的数据
+        for (int i = 4; i < 8; i++) {
+            list.set(i, 1000 + i);
+            expected.set(i, 1000 + i);
+        }
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void fill_compareWithArrayList() {
+        SwipeChunkedList<Integer> list = new SwipeChunkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            int index = (i * 7) % (expected.size() + 1);
+            list.add(index, i);
+            expected.add(index, i);
+            if (i % 10 == 9) {
+                int from = (i * 3) % expected.size();
+                int to = Math.min(expected.size(), from + 15);
+                list.fill(from, to, -1);
+                for (int j = from; j < to; j++) {
+                    expected.set(j, -1);
+                }
+            }
+            if (i % 4 == 0) {
+                int set = (i * 11) % expected.size();
+                assertEquals(expected.set(set, i), list.set(set, i));
+            }
+            if (i % 3 == 0) {
+                int remove = (i * 5) % expected.size();
+                assertEquals(expected.remove(remove), list.remove(remove));
+            }
+        }
+        assertEquals(expected, list);
+    }
+
+}
@@ -0,0 +1,85 @@
+package androidx.widget;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 侧滑打开位置索引测试
+ */
+public class SwipeOpenIndexTest {
+
+    private SwipeOpenIndex create(int... positions) {
+        SwipeOpenIndex index = new SwipeOpenIndex(null);
+        for (int position : positions) {
+            index.set(position, true);
+        }
+        return index;
+    }
+
+    private int[] sorted(SwipeOpenIndex index) {
+        int[] positions = index.toArray();
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    @Test
+    public void set_openAndClose() {
+        SwipeOpenIndex index = create(1, 5, 9, 5);
+        assertEquals(3, index.size());
+        index.set(5, false);
+        index.set(7, false);
+        assertArrayEquals(new int[]{1, 9}, sorted(index));
+        assertEquals(1, index.first());
+    }
+
+    @Test
+    public void insert_shiftsAfter() {
+        SwipeOpenIndex index = create(0, 3, 6);
+        index.onItemRangeInserted(3, 2);
+        assertArrayEquals(new int[]{0, 5, 8}, sorted(index));
+        index.onItemRangeInserted(0, 1);
+        assertArrayEquals(new int[]{1, 6, 9}, sorted(index));
+        index.onItemRangeInserted(10, 4);
+        assertArrayEquals(new int[]{1, 6, 9}, sorted(index));
+    }
+
+    @Test
+    public void remove_shiftsAfterAndDropsRemoved() {
+        SwipeOpenIndex index = create(0, 3, 4, 8);
+        index.onItemRangeRemoved(3, 2);
+        assertArrayEquals(new int[]{0, 6}, sorted(index));
+        index.onItemRangeRemoved(0, 1);
+        assertArrayEquals(new int[]{5}, sorted(index));
+        index.onItemRangeRemoved(6, 3);
+        assertArrayEquals(new int[]{5}, sorted(index));
+    }
+
+    @Test
+    public void move_down() {
+        SwipeOpenIndex index = create(2, 4, 7);
+        //2移动到5，3~5向前移动一位
+        index.onItemRangeMoved(2, 5, 1);
+        assertArrayEquals(new int[]{3, 5, 7}, sorted(index));
+    }
+
+    @Test
+    public void move_up() {
+        SwipeOpenIndex index = create(1, 3, 6);
+        //6移动到2，2~5向后移动一位
+        index.onItemRangeMoved(6, 2, 1);
+        assertArrayEquals(new int[]{1, 2, 4}, sorted(index));
+    }
+
+    @Test
+    public void clear() {
+        SwipeOpenIndex index = create(1, 2);
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.first());
+    }
+
+}
@@ -0,0 +1,108 @@
+package androidx.widget;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 环形数组列表测试
+ */
+public class SwipeRingListTest {
+
+    private SwipeRingList<Integer> create(int capacity, int count) {
+        SwipeRingList<Integer> list = new SwipeRingList<>(capacity);
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void add_headMiddleTail() {
+        SwipeRingList<Integer> list = create(10, 5);
+        list.add(0, -1);
+        list.add(3, 100);
+        list.add(list.size(), 5);
+        assertEquals(Arrays.asList(-1, 0, 1, 100, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void remove_headMiddleTail() {
+        SwipeRingList<Integer> list = create(10, 7);
+        assertEquals(Integer.valueOf(0), list.remove(0));
+        assertEquals(Integer.valueOf(3), list.remove(2));
+        assertEquals(Integer.valueOf(6), list.remove(list.size() - 1));
+        assertEquals(Arrays.asList(1, 2, 4, 5), list);
+    }
+
+    @Test
+    public void add_wrapAround() {
+        //头部插入后第一个元素在数组末尾，尾部插入继续写到数组开头
+        SwipeRingList<Integer> list = create(8, 4);
+        list.add(0, -1);
+        list.add(0, -2);
+        list.add(4);
+        list.add(5);
+        assertEquals(Arrays.asList(-2, -1, 0, 1, 2, 3, 4, 5), list);
+        list.add(4, 100);
+        assertEquals(Arrays.asList(-2, -1, 0, 1, 100, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void remove_wrapAround() {
+        SwipeRingList<Integer> list = create(8, 6);
+        list.remove(0);
+        list.remove(0);
+        list.remove(0);
+        list.add(6);
+        list.add(7);
+        list.add(8);
+        list.add(9);
+        assertEquals(Arrays.asList(3, 4, 5, 6, 7, 8, 9), list);
+        list.remove(5);
+        list.remove(1);
+        assertEquals(Arrays.asList(3, 5, 6, 7, 9), list);
+    }
+
+    @Test
+    public void addAll_headMiddleTail() {
+        SwipeRingList<Integer> list = create(4, 4);
+        list.addAll(0, Arrays.asList(-2, -1));
+        list.addAll(3, Arrays.asList(10, 11));
+        list.addAll(Arrays.asList(4, 5));
+        assertEquals(Arrays.asList(-2, -1, 0, 10, 11, 1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void removeRange_subListClear() {
+        SwipeRingList<Integer> list = create(8, 8);
+        list.add(0, -1);
+        list.subList(0, 2).clear();
+        list.subList(4, 6).clear();
+        list.subList(2, list.size()).clear();
+        assertEquals(Arrays.asList(1, 2), list);
+    }
+
+    @Test
+    public void compare_withArrayList() {
+        SwipeRingList<Integer> list = new SwipeRingList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int index = (i * 7) % (expected.size() + 1);
+            list.add(index, i);
+            expected.add(index, i);
+            if (i % 3 == 0) {
+                int remove = (i * 5) % expected.size();
+                assertEquals(expected.remove(remove), list.remove(remove));
+            }
+        }
+        assertEquals(expected, list);
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+}